@@ -0,0 +1,142 @@
+package com.interview.scheduler.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An interview moved out of the hot interviews table once it ended longer ago than
+ * the archive retention. Rows keep their id, timestamps and version and are never
+ * changed again, so the cold table only needs the indexes listings read by.
+ */
+@Entity
+@Table(name = "interviews_archive", indexes = {
+    @Index(name = "idx_interviews_archive_interviewer_id_time", columnList = "interviewer_id, start_time"),
+    @Index(name = "idx_interviews_archive_candidate_id_time", columnList = "candidate_id, start_time"),
+    @Index(name = "idx_interviews_archive_start_time", columnList = "start_time, id"),
+    @Index(name = "idx_interviews_archive_panel", columnList = "panel_id")
+})
+public class ArchivedInterview {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false)
+    private String candidateName;
+    
+    @Column(nullable = false)
+    private String candidateEmail;
+    
+    @Column(nullable = false)
+    private String interviewerName;
+    
+    @Column(nullable = false)
+    private String interviewerEmail;
+    
+    @Column(name = "candidate_id")
+    private Long candidateId;
+    
+    @Column(name = "interviewer_id")
+    private Long interviewerId;
+    
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+    
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private InterviewStatus status;
+    
+    @Column(length = 500)
+    private String notes;
+    
+    @Column(nullable = false)
+    private String position;
+    
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "panel_id")
+    private Long panelId;
+    
+    private Long version;
+    
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+    
+    // Constructors
+    public ArchivedInterview() {
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public String getCandidateName() {
+        return candidateName;
+    }
+    
+    public String getCandidateEmail() {
+        return candidateEmail;
+    }
+    
+    public String getInterviewerName() {
+        return interviewerName;
+    }
+    
+    public String getInterviewerEmail() {
+        return interviewerEmail;
+    }
+    
+    public Long getCandidateId() {
+        return candidateId;
+    }
+    
+    public Long getInterviewerId() {
+        return interviewerId;
+    }
+    
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+    
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+    
+    public InterviewStatus getStatus() {
+        return status;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public String getPosition() {
+        return position;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public Long getPanelId() {
+        return panelId;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,118 @@
+package com.interview.scheduler.repository;
+
+import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.dto.ListingVersion;
+import com.interview.scheduler.model.ArchivedInterview;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read access to the interviews archive, mirroring the listing queries of
+ * {@link InterviewRepository} so pages of both tables can be merged
+ */
+@Repository
+public interface ArchivedInterviewRepository extends JpaRepository<ArchivedInterview, Long> {
+    
+    String RESPONSE_PROJECTION =
+            "SELECT new com.interview.scheduler.dto.InterviewResponse(" +
+            "a.id, a.candidateName, a.candidateEmail, a.interviewerName, a.interviewerEmail, " +
+            "a.startTime, a.endTime, a.status, a.notes, a.position, a.createdAt, a.updatedAt, a.version, a.panelId) " +
+            "FROM ArchivedInterview a ";
+    
+    String LISTING_VERSION =
+            "SELECT new com.interview.scheduler.dto.ListingVersion(" +
+            "COUNT(a), MAX(a.updatedAt), SUM(a.version)) " +
+            "FROM ArchivedInterview a ";
+    
+    /**
+     * Latest start time in the archive, or null while it is empty
+     */
+    @Query("SELECT MAX(a.startTime) FROM ArchivedInterview a")
+    LocalDateTime findLatestStartTime();
+    
+    @Query(RESPONSE_PROJECTION + "WHERE a.id = :id")
+    Optional<InterviewResponse> findResponseById(@Param("id") Long id);
+    
+    @Query(RESPONSE_PROJECTION + "WHERE a.panelId = :panelId ORDER BY a.id")
+    List<InterviewResponse> findPanel(@Param("panelId") Long panelId);
+    
+    @Query(LISTING_VERSION)
+    ListingVersion findListingVersion();
+    
+    @Query(LISTING_VERSION + "WHERE a.interviewerId = :interviewerId")
+    ListingVersion findInterviewerListingVersion(@Param("interviewerId") Long interviewerId);
+    
+    @Query(LISTING_VERSION + "WHERE a.candidateId = :candidateId")
+    ListingVersion findCandidateListingVersion(@Param("candidateId") Long candidateId);
+    
+    /**
+     * Non-cancelled archived interviews of one interviewer overlapping a time range
+     */
+    @Query("SELECT a FROM ArchivedInterview a WHERE " +
+           "a.interviewerId = :interviewerId AND " +
+           "a.status != 'CANCELLED' AND " +
+           "a.startTime < :endTime AND a.endTime > :startTime")
+    List<ArchivedInterview> findInterviewerInterviews(
+            @Param("interviewerId") Long interviewerId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime
+    );
+    
+    @Query(RESPONSE_PROJECTION +
+           "ORDER BY a.startTime ASC, a.id ASC")
+    List<InterviewResponse> findFirstPage(Pageable pageable);
+    
+    @Query(RESPONSE_PROJECTION + "WHERE " +
+           "a.startTime > :startTime OR (a.startTime = :startTime AND a.id > :id) " +
+           "ORDER BY a.startTime ASC, a.id ASC")
+    List<InterviewResponse> findPageAfter(
+            @Param("startTime") LocalDateTime startTime,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+    
+    @Query(RESPONSE_PROJECTION + "WHERE " +
+           "a.interviewerId = :interviewerId " +
+           "ORDER BY a.startTime DESC, a.id DESC")
+    List<InterviewResponse> findInterviewerFirstPage(
+            @Param("interviewerId") Long interviewerId,
+            Pageable pageable
+    );
+    
+    @Query(RESPONSE_PROJECTION + "WHERE " +
+           "a.interviewerId = :interviewerId AND " +
+           "(a.startTime < :startTime OR (a.startTime = :startTime AND a.id < :id)) " +
+           "ORDER BY a.startTime DESC, a.id DESC")
+    List<InterviewResponse> findInterviewerPageBefore(
+            @Param("interviewerId") Long interviewerId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+    
+    @Query(RESPONSE_PROJECTION + "WHERE " +
+           "a.candidateId = :candidateId " +
+           "ORDER BY a.startTime DESC, a.id DESC")
+    List<InterviewResponse> findCandidateFirstPage(
+            @Param("candidateId") Long candidateId,
+            Pageable pageable
+    );
+    
+    @Query(RESPONSE_PROJECTION + "WHERE " +
+           "a.candidateId = :candidateId AND " +
+           "(a.startTime < :startTime OR (a.startTime = :startTime AND a.id < :id)) " +
+           "ORDER BY a.startTime DESC, a.id DESC")
+    List<InterviewResponse> findCandidatePageBefore(
+            @Param("candidateId") Long candidateId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+}
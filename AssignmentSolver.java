@@ -0,0 +1,259 @@
+package com.interview.scheduler.service.assignment;
+
+import com.interview.scheduler.service.availability.TimeWindow;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Assigns candidates to free interviewer slots so that nobody is double booked
+ * and as many candidates as possible are placed.
+ *
+ * Interviewer time is cut into disjoint slots up front, which turns the problem
+ * into a bipartite matching between candidates and (interviewer, slot) pairs. A
+ * greedy pass places the most constrained candidates first, each in the earliest
+ * slot it can take, preferring the least loaded interviewer; augmenting paths then
+ * place whoever the greedy pass left out. Positions that share no interviewer are
+ * independent and are solved in parallel on a fork-join pool.
+ */
+@Component
+public class AssignmentSolver {
+
+    private final ForkJoinPool pool;
+
+    @Autowired
+    public AssignmentSolver(@Value("${interview.auto-schedule.parallelism:0}") int parallelism) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Auto-schedule parallelism cannot be negative, got " + parallelism);
+        }
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * The slot chosen for each candidate, by candidate index, or null where none was found
+     */
+    public Assignment[] solve(List<CandidateDemand> candidates, List<InterviewerSupply> interviewers) {
+        List<ForkJoinTask<List<Assignment>>> tasks = new ArrayList<>();
+        for (Partition partition : partition(candidates, interviewers)) {
+            tasks.add(pool.submit(() -> solve(partition, candidates, interviewers)));
+        }
+
+        Assignment[] assignments = new Assignment[candidates.size()];
+        for (ForkJoinTask<List<Assignment>> task : tasks) {
+            for (Assignment assignment : task.join()) {
+                assignments[assignment.candidate()] = assignment;
+            }
+        }
+        return assignments;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Group positions linked by an interviewer eligible for several of them.
+     * Candidates whose position no interviewer covers are left out.
+     */
+    private List<Partition> partition(List<CandidateDemand> candidates, List<InterviewerSupply> interviewers) {
+        Map<String, String> parents = new HashMap<>();
+        for (InterviewerSupply interviewer : interviewers) {
+            String first = null;
+            for (String position : interviewer.positions()) {
+                parents.putIfAbsent(position, position);
+                if (first == null) {
+                    first = position;
+                } else {
+                    parents.put(root(parents, position), root(parents, first));
+                }
+            }
+        }
+
+        Map<String, Partition> partitions = new LinkedHashMap<>();
+        for (int i = 0; i < interviewers.size(); i++) {
+            if (!interviewers.get(i).positions().isEmpty()) {
+                String root = root(parents, interviewers.get(i).positions().iterator().next());
+                partitions.computeIfAbsent(root, key -> new Partition()).interviewers.add(i);
+            }
+        }
+        for (int i = 0; i < candidates.size(); i++) {
+            if (parents.containsKey(candidates.get(i).position())) {
+                partitions.get(root(parents, candidates.get(i).position())).candidates.add(i);
+            }
+        }
+        partitions.values().removeIf(partition -> partition.candidates.isEmpty());
+        return new ArrayList<>(partitions.values());
+    }
+
+    private String root(Map<String, String> parents, String position) {
+        String root = position;
+        while (!parents.get(root).equals(root)) {
+            root = parents.get(root);
+        }
+        parents.put(position, root);
+        return root;
+    }
+
+    private List<Assignment> solve(Partition partition, List<CandidateDemand> candidates,
+                                   List<InterviewerSupply> interviewers) {
+        List<Slot> slots = new ArrayList<>();
+        for (int interviewer : partition.interviewers) {
+            for (TimeWindow window : interviewers.get(interviewer).slots()) {
+                slots.add(new Slot(interviewer, window));
+            }
+        }
+        slots.sort(Comparator.comparing((Slot slot) -> slot.window().getStart()).thenComparingInt(Slot::interviewer));
+
+        // Slots each candidate could take, in start order
+        int size = partition.candidates.size();
+        int[][] options = new int[size][];
+        for (int c = 0; c < size; c++) {
+            CandidateDemand candidate = candidates.get(partition.candidates.get(c));
+            List<Integer> usable = new ArrayList<>();
+            for (int s = 0; s < slots.size(); s++) {
+                Slot slot = slots.get(s);
+                if (interviewers.get(slot.interviewer()).positions().contains(candidate.position())
+                        && isFree(candidate.busy(), slot.window())) {
+                    usable.add(s);
+                }
+            }
+            options[c] = usable.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        Matching matching = new Matching(slots, options, interviewers.size());
+        Integer[] order = new Integer[size];
+        for (int c = 0; c < size; c++) {
+            order[c] = c;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer c) -> options[c].length));
+        for (int c : order) {
+            matching.placeGreedily(c);
+        }
+        for (int c = 0; c < size; c++) {
+            if (matching.slotOf[c] < 0 && options[c].length > 0) {
+                matching.augment(c, new boolean[slots.size()]);
+            }
+        }
+
+        List<Assignment> assignments = new ArrayList<>();
+        for (int c = 0; c < size; c++) {
+            if (matching.slotOf[c] >= 0) {
+                Slot slot = slots.get(matching.slotOf[c]);
+                assignments.add(new Assignment(partition.candidates.get(c), slot.interviewer(), slot.window()));
+            }
+        }
+        return assignments;
+    }
+
+    private boolean isFree(List<TimeWindow> busy, TimeWindow window) {
+        for (TimeWindow interval : busy) {
+            if (interval.getStart().isBefore(window.getEnd()) && interval.getEnd().isAfter(window.getStart())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A candidate to place: the position applied for and existing bookings, sorted by start
+     */
+    public record CandidateDemand(String position, List<TimeWindow> busy) {
+    }
+
+    /**
+     * An interviewer: the positions they can interview for and their disjoint free slots
+     */
+    public record InterviewerSupply(Set<String> positions, List<TimeWindow> slots) {
+    }
+
+    /**
+     * A candidate placed in a slot of an interviewer, both by index into the solver input
+     */
+    public record Assignment(int candidate, int interviewer, TimeWindow slot) {
+    }
+
+    private record Slot(int interviewer, TimeWindow window) {
+    }
+
+    private static class Partition {
+
+        private final List<Integer> candidates = new ArrayList<>();
+        private final List<Integer> interviewers = new ArrayList<>();
+    }
+
+    /**
+     * Candidates matched to slots, both indexed locally to one partition
+     */
+    private static class Matching {
+
+        private final List<Slot> slots;
+        private final int[][] options;
+        private final int[] slotOf;
+        private final int[] candidateOf;
+        private final int[] load;
+
+        Matching(List<Slot> slots, int[][] options, int interviewers) {
+            this.slots = slots;
+            this.options = options;
+            this.slotOf = new int[options.length];
+            this.candidateOf = new int[slots.size()];
+            this.load = new int[interviewers];
+            Arrays.fill(slotOf, -1);
+            Arrays.fill(candidateOf, -1);
+        }
+
+        // Earliest open slot, the least loaded interviewer among those starting at the same time
+        void placeGreedily(int candidate) {
+            int best = -1;
+            for (int slot : options[candidate]) {
+                if (candidateOf[slot] >= 0) {
+                    continue;
+                }
+                if (best < 0) {
+                    best = slot;
+                } else if (!slots.get(slot).window().getStart().equals(slots.get(best).window().getStart())) {
+                    break;
+                } else if (load[slots.get(slot).interviewer()] < load[slots.get(best).interviewer()]) {
+                    best = slot;
+                }
+            }
+            if (best >= 0) {
+                assign(candidate, best);
+                load[slots.get(best).interviewer()]++;
+            }
+        }
+
+        // Find a free slot for the candidate, moving already placed candidates to other slots if needed
+        boolean augment(int candidate, boolean[] visited) {
+            for (int slot : options[candidate]) {
+                if (visited[slot]) {
+                    continue;
+                }
+                visited[slot] = true;
+                if (candidateOf[slot] < 0 || augment(candidateOf[slot], visited)) {
+                    assign(candidate, slot);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void assign(int candidate, int slot) {
+            candidateOf[slot] = candidate;
+            slotOf[candidate] = slot;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.interview.scheduler.dto;
+
+import jakarta.validation.constraints.*;
+
+/**
+ * A candidate to be placed by the auto-scheduler
+ */
+public class AutoScheduleCandidate {
+    
+    @NotBlank(message = "Candidate name is required")
+    @Size(min = 2, max = 100, message = "Candidate name must be between 2 and 100 characters")
+    private String candidateName;
+    
+    @NotBlank(message = "Candidate email is required")
+    @Email(message = "Invalid candidate email format")
+    private String candidateEmail;
+    
+    @NotBlank(message = "Position is required")
+    @Size(min = 2, max = 100, message = "Position must be between 2 and 100 characters")
+    private String position;
+    
+    // Constructors
+    public AutoScheduleCandidate() {
+    }
+    
+    public AutoScheduleCandidate(String candidateName, String candidateEmail, String position) {
+        this.candidateName = candidateName;
+        this.candidateEmail = candidateEmail;
+        this.position = position;
+    }
+    
+    // Getters and Setters
+    public String getCandidateName() {
+        return candidateName;
+    }
+    
+    public void setCandidateName(String candidateName) {
+        this.candidateName = candidateName;
+    }
+    
+    public String getCandidateEmail() {
+        return candidateEmail;
+    }
+    
+    public void setCandidateEmail(String candidateEmail) {
+        this.candidateEmail = candidateEmail;
+    }
+    
+    public String getPosition() {
+        return position;
+    }
+    
+    public void setPosition(String position) {
+        this.position = position;
+    }
+}
@@ -0,0 +1,82 @@
+package com.interview.scheduler.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An interviewer available to the auto-scheduler and the positions they can interview for.
+ * The optional availability narrows the event window for this interviewer.
+ */
+public class AutoScheduleInterviewer {
+    
+    @NotBlank(message = "Interviewer name is required")
+    @Size(min = 2, max = 100, message = "Interviewer name must be between 2 and 100 characters")
+    private String interviewerName;
+    
+    @NotBlank(message = "Interviewer email is required")
+    @Email(message = "Invalid interviewer email format")
+    private String interviewerEmail;
+    
+    @NotEmpty(message = "At least one position is required")
+    private List<@NotBlank(message = "Position is required") String> positions;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime availableFrom;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime availableTo;
+    
+    // Constructors
+    public AutoScheduleInterviewer() {
+    }
+    
+    public AutoScheduleInterviewer(String interviewerName, String interviewerEmail, List<String> positions) {
+        this.interviewerName = interviewerName;
+        this.interviewerEmail = interviewerEmail;
+        this.positions = positions;
+    }
+    
+    // Getters and Setters
+    public String getInterviewerName() {
+        return interviewerName;
+    }
+    
+    public void setInterviewerName(String interviewerName) {
+        this.interviewerName = interviewerName;
+    }
+    
+    public String getInterviewerEmail() {
+        return interviewerEmail;
+    }
+    
+    public void setInterviewerEmail(String interviewerEmail) {
+        this.interviewerEmail = interviewerEmail;
+    }
+    
+    public List<String> getPositions() {
+        return positions;
+    }
+    
+    public void setPositions(List<String> positions) {
+        this.positions = positions;
+    }
+    
+    public LocalDateTime getAvailableFrom() {
+        return availableFrom;
+    }
+    
+    public void setAvailableFrom(LocalDateTime availableFrom) {
+        this.availableFrom = availableFrom;
+    }
+    
+    public LocalDateTime getAvailableTo() {
+        return availableTo;
+    }
+    
+    public void setAvailableTo(LocalDateTime availableTo) {
+        this.availableTo = availableTo;
+    }
+}
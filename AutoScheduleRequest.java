@@ -0,0 +1,124 @@
+package com.interview.scheduler.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Candidates and interviewers of a hiring event to be matched automatically
+ * inside the event window. Working hours left out fall back to the configured
+ * suggestion settings.
+ */
+public class AutoScheduleRequest {
+    
+    @NotEmpty(message = "At least one candidate is required")
+    @Size(max = 1000, message = "At most 1000 candidates can be scheduled at once")
+    private List<@Valid AutoScheduleCandidate> candidates;
+    
+    @NotEmpty(message = "At least one interviewer is required")
+    @Size(max = 200, message = "At most 200 interviewers can be scheduled at once")
+    private List<@Valid AutoScheduleInterviewer> interviewers;
+    
+    @NotNull(message = "Start of the event is required")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime from;
+    
+    @NotNull(message = "End of the event is required")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime to;
+    
+    @NotNull(message = "Duration is required")
+    @Min(value = 5, message = "Duration must be at least 5 minutes")
+    @Max(value = 24 * 60, message = "Duration cannot exceed one day")
+    private Integer durationMinutes;
+    
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime workDayStart;
+    
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime workDayEnd;
+    
+    private Boolean includeWeekends;
+    
+    // Constructors
+    public AutoScheduleRequest() {
+    }
+    
+    // Getters and Setters
+    public List<AutoScheduleCandidate> getCandidates() {
+        return candidates;
+    }
+    
+    public void setCandidates(List<AutoScheduleCandidate> candidates) {
+        this.candidates = candidates;
+    }
+    
+    public List<AutoScheduleInterviewer> getInterviewers() {
+        return interviewers;
+    }
+    
+    public void setInterviewers(List<AutoScheduleInterviewer> interviewers) {
+        this.interviewers = interviewers;
+    }
+    
+    public LocalDateTime getFrom() {
+        return from;
+    }
+    
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+    
+    public LocalDateTime getTo() {
+        return to;
+    }
+    
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+    
+    public Integer getDurationMinutes() {
+        return durationMinutes;
+    }
+    
+    public void setDurationMinutes(Integer durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+    
+    public LocalTime getWorkDayStart() {
+        return workDayStart;
+    }
+    
+    public void setWorkDayStart(LocalTime workDayStart) {
+        this.workDayStart = workDayStart;
+    }
+    
+    public LocalTime getWorkDayEnd() {
+        return workDayEnd;
+    }
+    
+    public void setWorkDayEnd(LocalTime workDayEnd) {
+        this.workDayEnd = workDayEnd;
+    }
+    
+    public Boolean getIncludeWeekends() {
+        return includeWeekends;
+    }
+    
+    public void setIncludeWeekends(Boolean includeWeekends) {
+        this.includeWeekends = includeWeekends;
+    }
+    
+    // Validation method
+    @AssertTrue(message = "End of the event must be after its start")
+    public boolean isToAfterFrom() {
+        if (from == null || to == null) {
+            return true;
+        }
+        return to.isAfter(from);
+    }
+}
@@ -0,0 +1,76 @@
+package com.interview.scheduler.dto;
+
+import java.util.List;
+
+public class AutoScheduleResponse {
+    
+    private int placed;
+    private int unplacedCount;
+    private double utilization;
+    private List<InterviewResponse> interviews;
+    private List<UnplacedCandidate> unplaced;
+    private List<InterviewerUtilization> interviewers;
+    
+    // Constructors
+    public AutoScheduleResponse() {
+    }
+    
+    public AutoScheduleResponse(double utilization, List<InterviewResponse> interviews,
+                                List<UnplacedCandidate> unplaced, List<InterviewerUtilization> interviewers) {
+        this.placed = interviews.size();
+        this.unplacedCount = unplaced.size();
+        this.utilization = utilization;
+        this.interviews = interviews;
+        this.unplaced = unplaced;
+        this.interviewers = interviewers;
+    }
+    
+    // Getters and Setters
+    public int getPlaced() {
+        return placed;
+    }
+    
+    public void setPlaced(int placed) {
+        this.placed = placed;
+    }
+    
+    public int getUnplacedCount() {
+        return unplacedCount;
+    }
+    
+    public void setUnplacedCount(int unplacedCount) {
+        this.unplacedCount = unplacedCount;
+    }
+    
+    public double getUtilization() {
+        return utilization;
+    }
+    
+    public void setUtilization(double utilization) {
+        this.utilization = utilization;
+    }
+    
+    public List<InterviewResponse> getInterviews() {
+        return interviews;
+    }
+    
+    public void setInterviews(List<InterviewResponse> interviews) {
+        this.interviews = interviews;
+    }
+    
+    public List<UnplacedCandidate> getUnplaced() {
+        return unplaced;
+    }
+    
+    public void setUnplaced(List<UnplacedCandidate> unplaced) {
+        this.unplaced = unplaced;
+    }
+    
+    public List<InterviewerUtilization> getInterviewers() {
+        return interviewers;
+    }
+    
+    public void setInterviewers(List<InterviewerUtilization> interviewers) {
+        this.interviewers = interviewers;
+    }
+}
@@ -0,0 +1,13 @@
+package com.interview.scheduler.service;
+
+import com.interview.scheduler.dto.AutoScheduleRequest;
+import com.interview.scheduler.dto.AutoScheduleResponse;
+
+public interface AutoSchedulingService {
+    
+    /**
+     * Assign the candidates of a hiring event to eligible interviewers' free slots
+     * and book every assignment in one batch
+     */
+    AutoScheduleResponse autoSchedule(AutoScheduleRequest request);
+}
@@ -0,0 +1,216 @@
+package com.interview.scheduler.service.impl;
+
+import com.interview.scheduler.dto.AutoScheduleCandidate;
+import com.interview.scheduler.dto.AutoScheduleInterviewer;
+import com.interview.scheduler.dto.AutoScheduleRequest;
+import com.interview.scheduler.dto.AutoScheduleResponse;
+import com.interview.scheduler.dto.BatchInterviewRequest;
+import com.interview.scheduler.dto.BatchInterviewResponse;
+import com.interview.scheduler.dto.BatchItemResult;
+import com.interview.scheduler.dto.BatchItemStatus;
+import com.interview.scheduler.dto.BatchMode;
+import com.interview.scheduler.dto.InterviewRequest;
+import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.dto.InterviewerUtilization;
+import com.interview.scheduler.dto.UnplacedCandidate;
+import com.interview.scheduler.exception.BadRequestException;
+import com.interview.scheduler.metrics.InterviewMetrics;
+import com.interview.scheduler.service.AutoSchedulingService;
+import com.interview.scheduler.service.InterviewService;
+import com.interview.scheduler.service.assignment.AssignmentSolver;
+import com.interview.scheduler.service.assignment.AssignmentSolver.Assignment;
+import com.interview.scheduler.service.assignment.AssignmentSolver.CandidateDemand;
+import com.interview.scheduler.service.assignment.AssignmentSolver.InterviewerSupply;
+import com.interview.scheduler.service.availability.FreeSlotFinder;
+import com.interview.scheduler.service.availability.ParticipantBusy;
+import com.interview.scheduler.service.availability.ParticipantBusyLookup;
+import com.interview.scheduler.service.availability.TimeWindow;
+import com.interview.scheduler.service.availability.WorkingHours;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Places a hiring event's candidates in one go on top of the batch booking path.
+ *
+ * The assignment is computed outside any transaction from a snapshot of everyone's
+ * bookings, then committed with a single best-effort batch, which re-checks every
+ * interview under the usual conflict protection. Anything booked meanwhile only
+ * costs the candidates it collides with, who are reported as unplaced: the batch
+ * reports those items as conflicts, and with slot claims it retries its items one
+ * by one when a claim collides instead of failing as a whole.
+ */
+@Service
+public class AutoSchedulingServiceImpl implements AutoSchedulingService {
+    
+    private static final Logger log = LoggerFactory.getLogger(AutoSchedulingServiceImpl.class);
+    
+    private static final Duration MAX_EVENT_LENGTH = Duration.ofDays(14);
+    
+    private final InterviewService interviewService;
+    private final ParticipantBusyLookup participantBusyLookup;
+    private final FreeSlotFinder freeSlotFinder;
+    private final AssignmentSolver assignmentSolver;
+    private final InterviewMetrics metrics;
+    
+    @Autowired
+    public AutoSchedulingServiceImpl(InterviewService interviewService,
+                                     ParticipantBusyLookup participantBusyLookup,
+                                     FreeSlotFinder freeSlotFinder,
+                                     AssignmentSolver assignmentSolver,
+                                     InterviewMetrics metrics) {
+        this.interviewService = interviewService;
+        this.participantBusyLookup = participantBusyLookup;
+        this.freeSlotFinder = freeSlotFinder;
+        this.assignmentSolver = assignmentSolver;
+        this.metrics = metrics;
+    }
+    
+    @Override
+    public AutoScheduleResponse autoSchedule(AutoScheduleRequest request) {
+        List<AutoScheduleCandidate> candidates = request.getCandidates();
+        List<AutoScheduleInterviewer> interviewers = request.getInterviewers();
+        log.info("Auto-scheduling {} candidates across {} interviewers", candidates.size(), interviewers.size());
+        
+        if (Duration.between(request.getFrom(), request.getTo()).compareTo(MAX_EVENT_LENGTH) > 0) {
+            throw new BadRequestException("An event cannot be longer than " + MAX_EVENT_LENGTH.toDays() + " days");
+        }
+        Set<String> candidateEmails = new LinkedHashSet<>();
+        candidates.forEach(candidate -> candidateEmails.add(candidate.getCandidateEmail()));
+        if (candidateEmails.size() != candidates.size()) {
+            throw new BadRequestException("Candidates must be distinct");
+        }
+        Set<String> interviewerEmails = new LinkedHashSet<>();
+        interviewers.forEach(interviewer -> interviewerEmails.add(interviewer.getInterviewerEmail()));
+        if (interviewerEmails.size() != interviewers.size()) {
+            throw new BadRequestException("Interviewers must be distinct");
+        }
+        
+        WorkingHours hours = freeSlotFinder.workingHours(request.getWorkDayStart(), request.getWorkDayEnd(),
+                                                         request.getIncludeWeekends());
+        Duration duration = Duration.ofMinutes(request.getDurationMinutes());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime from = request.getFrom().isAfter(now) ? request.getFrom() : now;
+        LocalDateTime to = request.getTo();
+        
+        // Everyone's existing bookings in one lookup
+        ParticipantBusy busy = participantBusyLookup.find(interviewerEmails, candidateEmails, from, to);
+        
+        List<InterviewerSupply> supply = new ArrayList<>();
+        for (AutoScheduleInterviewer interviewer : interviewers) {
+            LocalDateTime availableFrom = latest(from, interviewer.getAvailableFrom());
+            LocalDateTime availableTo = earliest(to, interviewer.getAvailableTo());
+            List<TimeWindow> slots = availableFrom.isBefore(availableTo)
+                ? freeSlotFinder.findBackToBack(busy.ofInterviewer(interviewer.getInterviewerEmail()), duration,
+                                                availableFrom, availableTo, hours)
+                : List.of();
+            supply.add(new InterviewerSupply(new HashSet<>(interviewer.getPositions()), slots));
+        }
+        List<CandidateDemand> demand = new ArrayList<>();
+        for (AutoScheduleCandidate candidate : candidates) {
+            demand.add(new CandidateDemand(candidate.getPosition(), busy.ofCandidate(candidate.getCandidateEmail())));
+        }
+        
+        Assignment[] assignments = metrics.recordAutoSchedule(() -> assignmentSolver.solve(demand, supply));
+        
+        // Book everything placed in one best-effort batch, in time order
+        List<Assignment> placed = new ArrayList<>();
+        for (Assignment assignment : assignments) {
+            if (assignment != null) {
+                placed.add(assignment);
+            }
+        }
+        placed.sort(Comparator.comparing((Assignment assignment) -> assignment.slot().getStart())
+                .thenComparingInt(Assignment::interviewer));
+        List<InterviewRequest> requests = new ArrayList<>();
+        for (Assignment assignment : placed) {
+            requests.add(toRequest(candidates.get(assignment.candidate()),
+                                   interviewers.get(assignment.interviewer()), assignment.slot()));
+        }
+        List<BatchItemResult> results = requests.isEmpty()
+            ? List.of()
+            : interviewService.scheduleInterviews(new BatchInterviewRequest(BatchMode.BEST_EFFORT, requests))
+                .getResults();
+        
+        return toResponse(candidates, interviewers, supply, assignments, placed, results);
+    }
+    
+    private AutoScheduleResponse toResponse(List<AutoScheduleCandidate> candidates,
+                                            List<AutoScheduleInterviewer> interviewers,
+                                            List<InterviewerSupply> supply, Assignment[] assignments,
+                                            List<Assignment> placed, List<BatchItemResult> results) {
+        Set<String> coveredPositions = new HashSet<>();
+        interviewers.forEach(interviewer -> coveredPositions.addAll(interviewer.getPositions()));
+        
+        List<InterviewResponse> booked = new ArrayList<>();
+        int[] bookedSlots = new int[interviewers.size()];
+        boolean[] lostToConflict = new boolean[candidates.size()];
+        for (int i = 0; i < results.size(); i++) {
+            BatchItemResult result = results.get(i);
+            if (result.getStatus() == BatchItemStatus.CREATED) {
+                booked.add(result.getInterview());
+                bookedSlots[placed.get(i).interviewer()]++;
+            } else {
+                lostToConflict[placed.get(i).candidate()] = true;
+            }
+        }
+        
+        List<UnplacedCandidate> unplaced = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            AutoScheduleCandidate candidate = candidates.get(i);
+            String reason;
+            if (!coveredPositions.contains(candidate.getPosition())) {
+                reason = "No interviewer is eligible for this position";
+            } else if (assignments[i] == null) {
+                reason = "No free slot left with an eligible interviewer";
+            } else if (lostToConflict[i]) {
+                reason = "The assigned slot was booked by someone else meanwhile";
+            } else {
+                continue;
+            }
+            unplaced.add(new UnplacedCandidate(candidate.getCandidateEmail(), candidate.getPosition(), reason));
+        }
+        
+        List<InterviewerUtilization> utilization = new ArrayList<>();
+        int totalSlots = 0;
+        for (int i = 0; i < interviewers.size(); i++) {
+            int available = supply.get(i).slots().size();
+            totalSlots += available;
+            utilization.add(new InterviewerUtilization(interviewers.get(i).getInterviewerEmail(), available,
+                                                       bookedSlots[i], ratio(bookedSlots[i], available)));
+        }
+        
+        log.info("Auto-scheduled {} of {} candidates", booked.size(), candidates.size());
+        return new AutoScheduleResponse(ratio(booked.size(), totalSlots), booked, unplaced, utilization);
+    }
+    
+    private InterviewRequest toRequest(AutoScheduleCandidate candidate, AutoScheduleInterviewer interviewer,
+                                       TimeWindow slot) {
+        return new InterviewRequest(candidate.getCandidateName(), candidate.getCandidateEmail(),
+                                    interviewer.getInterviewerName(), interviewer.getInterviewerEmail(),
+                                    slot.getStart(), slot.getEnd(), candidate.getPosition(), null);
+    }
+    
+    private double ratio(int part, int whole) {
+        return whole == 0 ? 0.0 : Math.round(1000.0 * part / whole) / 1000.0;
+    }
+    
+    private LocalDateTime latest(LocalDateTime time, LocalDateTime other) {
+        return other != null && other.isAfter(time) ? other : time;
+    }
+    
+    private LocalDateTime earliest(LocalDateTime time, LocalDateTime other) {
+        return other != null && other.isBefore(time) ? other : time;
+    }
+}
@@ -0,0 +1,44 @@
+package com.interview.scheduler.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BatchInterviewRequest {
+
+    @NotNull(message = "Batch mode is required")
+    private BatchMode mode = BatchMode.ALL_OR_NOTHING;
+
+    @NotEmpty(message = "At least one interview is required")
+    @Size(max = 500, message = "A batch cannot contain more than 500 interviews")
+    private List<@Valid InterviewRequest> interviews;
+
+    // Constructors
+    public BatchInterviewRequest() {
+    }
+
+    public BatchInterviewRequest(BatchMode mode, List<InterviewRequest> interviews) {
+        this.mode = mode;
+        this.interviews = interviews;
+    }
+
+    // Getters and Setters
+    public BatchMode getMode() {
+        return mode;
+    }
+
+    public void setMode(BatchMode mode) {
+        this.mode = mode;
+    }
+
+    public List<InterviewRequest> getInterviews() {
+        return interviews;
+    }
+
+    public void setInterviews(List<InterviewRequest> interviews) {
+        this.interviews = interviews;
+    }
+}
@@ -0,0 +1,66 @@
+package com.interview.scheduler.dto;
+
+import java.util.List;
+
+public class BatchInterviewResponse {
+
+    private BatchMode mode;
+    private boolean persisted;
+    private int createdCount;
+    private int conflictCount;
+    private List<BatchItemResult> results;
+
+    // Constructors
+    public BatchInterviewResponse() {
+    }
+
+    public BatchInterviewResponse(BatchMode mode, boolean persisted, int createdCount,
+                                  int conflictCount, List<BatchItemResult> results) {
+        this.mode = mode;
+        this.persisted = persisted;
+        this.createdCount = createdCount;
+        this.conflictCount = conflictCount;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public BatchMode getMode() {
+        return mode;
+    }
+
+    public void setMode(BatchMode mode) {
+        this.mode = mode;
+    }
+
+    public boolean isPersisted() {
+        return persisted;
+    }
+
+    public void setPersisted(boolean persisted) {
+        this.persisted = persisted;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(int createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public int getConflictCount() {
+        return conflictCount;
+    }
+
+    public void setConflictCount(int conflictCount) {
+        this.conflictCount = conflictCount;
+    }
+
+    public List<BatchItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchItemResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,73 @@
+package com.interview.scheduler.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchItemResult {
+
+    private int index;
+    private BatchItemStatus status;
+    private String message;
+    private InterviewResponse interview;
+    private List<Long> conflictingInterviewIds = new ArrayList<>();
+    private List<Integer> conflictingItems = new ArrayList<>();
+
+    // Constructors
+    public BatchItemResult() {
+    }
+
+    public BatchItemResult(int index, BatchItemStatus status, String message) {
+        this.index = index;
+        this.status = status;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public BatchItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BatchItemStatus status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public InterviewResponse getInterview() {
+        return interview;
+    }
+
+    public void setInterview(InterviewResponse interview) {
+        this.interview = interview;
+    }
+
+    public List<Long> getConflictingInterviewIds() {
+        return conflictingInterviewIds;
+    }
+
+    public void setConflictingInterviewIds(List<Long> conflictingInterviewIds) {
+        this.conflictingInterviewIds = conflictingInterviewIds;
+    }
+
+    public List<Integer> getConflictingItems() {
+        return conflictingItems;
+    }
+
+    public void setConflictingItems(List<Integer> conflictingItems) {
+        this.conflictingItems = conflictingItems;
+    }
+}
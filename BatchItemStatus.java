@@ -0,0 +1,7 @@
+package com.interview.scheduler.dto;
+
+public enum BatchItemStatus {
+    CREATED,
+    CONFLICT,
+    SKIPPED
+}
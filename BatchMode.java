@@ -0,0 +1,9 @@
+package com.interview.scheduler.dto;
+
+/**
+ * How a batch reacts when some of its interviews conflict
+ */
+public enum BatchMode {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
@@ -0,0 +1,24 @@
+package com.interview.scheduler.config;
+
+/**
+ * Strategy used by scheduleInterview to guarantee there is no double booking.
+ *
+ * LOCKING takes PESSIMISTIC_WRITE locks on overlapping rows.
+ * SLOT_CLAIMS inserts one row per participant and time bucket into slot_claims
+ * and relies on its unique constraint, which also covers slots with no rows yet.
+ * PIPELINE queues bookings on single-threaded partitions keyed by interviewer that
+ * check them in memory and commit them in groups; slot claims catch the collisions
+ * a partition cannot see, with bookings of other partitions or other instances.
+ */
+public enum BookingMode {
+    LOCKING,
+    SLOT_CLAIMS,
+    PIPELINE;
+
+    /**
+     * Whether bookings hold slot claims, which every write path then has to maintain
+     */
+    public boolean usesSlotClaims() {
+        return this != LOCKING;
+    }
+}
@@ -0,0 +1,201 @@
+package com.interview.scheduler.service.pipeline;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Routes requests by key to a fixed set of single-threaded partitions and hands
+ * each partition's requests to a committer in groups.
+ *
+ * Callers append to a lock-free queue and wake the partition's thread, which
+ * drains up to a group's worth of requests, waiting at most the linger for more to
+ * arrive once it holds the first. The committer must complete or fail every request
+ * of the group; whatever it leaves open is failed. Requests with the same key are
+ * always handled by the same thread, in arrival order.
+ */
+public class BookingPipeline<T, R> {
+
+    private final List<Partition> partitions = new ArrayList<>();
+    private final Consumer<List<Submission<T, R>>> committer;
+    private final int maxGroupSize;
+    private final long lingerNanos;
+    private final int capacity;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    public BookingPipeline(String name, int partitionCount, int maxGroupSize, Duration linger, int capacity,
+                           Consumer<List<Submission<T, R>>> committer) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("Pipeline partitions must be positive, got " + partitionCount);
+        }
+        if (maxGroupSize < 1) {
+            throw new IllegalArgumentException("Pipeline group size must be positive, got " + maxGroupSize);
+        }
+        if (linger.isNegative()) {
+            throw new IllegalArgumentException("Pipeline linger must not be negative, got " + linger);
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Pipeline capacity must be positive, got " + capacity);
+        }
+        this.committer = committer;
+        this.maxGroupSize = maxGroupSize;
+        this.lingerNanos = linger.toNanos();
+        this.capacity = capacity;
+        for (int i = 0; i < partitionCount; i++) {
+            Partition partition = new Partition();
+            partition.thread = new Thread(partition::run, name + "-" + i);
+            partition.thread.setDaemon(true);
+            partitions.add(partition);
+        }
+        partitions.forEach(partition -> partition.thread.start());
+    }
+
+    /**
+     * Queue the request on the partition owning the key and wait for its result.
+     * Throws RejectedExecutionException when the pipeline is full or shut down.
+     */
+    public R submit(String key, T request) {
+        if (!running) {
+            throw new RejectedExecutionException("Booking pipeline is shut down");
+        }
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            throw new RejectedExecutionException("Booking pipeline is full");
+        }
+        Submission<T, R> submission = new Submission<>(request);
+        Partition partition = partitions.get(Math.floorMod(key.hashCode(), partitions.size()));
+        partition.queue.offer(submission);
+        LockSupport.unpark(partition.thread);
+        // A shutdown racing with the offer may have drained the queue already; then nobody would answer
+        if (!running && partition.queue.remove(submission)) {
+            queued.decrementAndGet();
+            submission.fail(new RejectedExecutionException("Booking pipeline is shut down"));
+        }
+        try {
+            return submission.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Requests waiting in queues or in a group being committed
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * Stop the partition threads once their current group is done and fail whatever is still queued
+     */
+    public void shutdown() {
+        running = false;
+        for (Partition partition : partitions) {
+            LockSupport.unpark(partition.thread);
+            try {
+                partition.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private class Partition {
+
+        private final Queue<Submission<T, R>> queue = new ConcurrentLinkedQueue<>();
+        private Thread thread;
+
+        void run() {
+            while (running) {
+                Submission<T, R> first = queue.poll();
+                if (first == null) {
+                    LockSupport.park(this);
+                    continue;
+                }
+                List<Submission<T, R>> group = new ArrayList<>();
+                group.add(first);
+                collect(group);
+                commit(group);
+            }
+            RejectedExecutionException stopped = new RejectedExecutionException("Booking pipeline is shut down");
+            for (Submission<T, R> submission = queue.poll(); submission != null; submission = queue.poll()) {
+                submission.fail(stopped);
+                queued.decrementAndGet();
+            }
+        }
+
+        // Take whatever else is queued, waiting up to the linger for a fuller group
+        private void collect(List<Submission<T, R>> group) {
+            long deadline = System.nanoTime() + lingerNanos;
+            while (group.size() < maxGroupSize) {
+                Submission<T, R> next = queue.poll();
+                if (next != null) {
+                    group.add(next);
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    return;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+        }
+
+        private void commit(List<Submission<T, R>> group) {
+            try {
+                committer.accept(group);
+            } catch (RuntimeException | Error e) {
+                group.forEach(submission -> submission.fail(e));
+            } finally {
+                IllegalStateException unanswered = new IllegalStateException("Booking was not answered by its group");
+                group.forEach(submission -> submission.fail(unanswered));
+                queued.addAndGet(-group.size());
+            }
+        }
+    }
+
+    /**
+     * One queued request and the future its caller waits on
+     */
+    public static class Submission<T, R> {
+
+        private final T request;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+
+        Submission(T request) {
+            this.request = request;
+        }
+
+        public T getRequest() {
+            return request;
+        }
+
+        public void complete(R value) {
+            result.complete(value);
+        }
+
+        /**
+         * Fail the request unless it has already been answered
+         */
+        public void fail(Throwable cause) {
+            result.completeExceptionally(cause);
+        }
+    }
+}
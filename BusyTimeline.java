@@ -0,0 +1,87 @@
+package com.interview.scheduler.service.availability;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The combined busy time of several participants as coalesced blocks in start order.
+ *
+ * Each participant's intervals must already be sorted by start. A k-way merge over
+ * the heads of those lists produces the blocks lazily, so a search that stops at the
+ * first free window only pays for the busy time before it: O(n log k) for n intervals
+ * of k participants instead of sorting everything up front.
+ */
+class BusyTimeline {
+
+    private final PriorityQueue<Cursor> heads =
+            new PriorityQueue<>(Comparator.comparing((Cursor cursor) -> cursor.current().getStart()));
+
+    private TimeWindow next;
+
+    BusyTimeline(Collection<? extends List<TimeWindow>> sortedBusy) {
+        for (List<TimeWindow> intervals : sortedBusy) {
+            if (!intervals.isEmpty()) {
+                heads.add(new Cursor(intervals));
+            }
+        }
+        next = coalesce();
+    }
+
+    /**
+     * The next busy block not yet skipped, or null once the timeline is exhausted
+     */
+    TimeWindow peek() {
+        return next;
+    }
+
+    void advance() {
+        next = coalesce();
+    }
+
+    // Pop the earliest interval and absorb every queued interval overlapping or touching it
+    private TimeWindow coalesce() {
+        Cursor first = heads.poll();
+        if (first == null) {
+            return null;
+        }
+        LocalDateTime start = first.current().getStart();
+        LocalDateTime end = first.current().getEnd();
+        requeue(first);
+
+        while (!heads.isEmpty() && !heads.peek().current().getStart().isAfter(end)) {
+            Cursor cursor = heads.poll();
+            if (cursor.current().getEnd().isAfter(end)) {
+                end = cursor.current().getEnd();
+            }
+            requeue(cursor);
+        }
+        return new TimeWindow(start, end);
+    }
+
+    private void requeue(Cursor cursor) {
+        if (cursor.advance()) {
+            heads.add(cursor);
+        }
+    }
+
+    private static class Cursor {
+
+        private final List<TimeWindow> intervals;
+        private int position;
+
+        Cursor(List<TimeWindow> intervals) {
+            this.intervals = intervals;
+        }
+
+        TimeWindow current() {
+            return intervals.get(position);
+        }
+
+        boolean advance() {
+            return ++position < intervals.size();
+        }
+    }
+}
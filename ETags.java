@@ -0,0 +1,97 @@
+package com.interview.scheduler.controller;
+
+import com.interview.scheduler.dto.InterviewPage;
+import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.dto.ListingVersion;
+import com.interview.scheduler.exception.BadRequestException;
+import com.interview.scheduler.exception.PreconditionFailedException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Strong entity tags for interviews and interview listings.
+ *
+ * A single interview is tagged with its @Version counter. A listing is tagged with
+ * its {@link ListingVersion}, so If-None-Match can be answered without reading a page.
+ * Pages that are cheap to read anyway are tagged from their own rows.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String ofVersion(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    static String ofListing(ListingVersion version) {
+        return "\"" + Long.toHexString(version.getCount()) + "-"
+                + Long.toHexString(epochMicros(version.getLastUpdated())) + "-"
+                + Long.toHexString(version.getVersionSum()) + "\"";
+    }
+
+    static String ofPage(InterviewPage page) {
+        // FNV-1a style 64-bit mix of the ids and versions of the rows and the next cursor
+        long hash = 0xcbf29ce484222325L;
+        for (InterviewResponse interview : page.getInterviews()) {
+            hash = (hash ^ interview.getId()) * 0x100000001b3L;
+            hash = (hash ^ Objects.hashCode(interview.getVersion())) * 0x100000001b3L;
+        }
+        hash = (hash ^ Objects.hashCode(page.getNextCursor())) * 0x100000001b3L;
+        return "\"" + Long.toHexString(page.getInterviews().size()) + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * The versions an If-Match header accepts, or null when the header is absent or "*".
+     * The header may list several tags, any of which matches. Weak tags never match under
+     * the strong comparison If-Match uses, and neither do tags this server never issued.
+     */
+    static Set<Long> acceptedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new LinkedHashSet<>();
+        int pos = 0;
+        while (pos < ifMatch.length()) {
+            char c = ifMatch.charAt(pos);
+            if (c == ',' || c == ' ' || c == '\t') {
+                pos++;
+                continue;
+            }
+            boolean weak = ifMatch.startsWith("W/", pos);
+            int open = weak ? pos + 2 : pos;
+            // An opaque tag cannot contain a quote, so the next one closes it
+            int close = open < ifMatch.length() && ifMatch.charAt(open) == '"' ? ifMatch.indexOf('"', open + 1) : -1;
+            if (close < 0) {
+                throw new BadRequestException("If-Match must be \"*\" or a list of quoted ETags, got " + ifMatch);
+            }
+            if (!weak) {
+                try {
+                    versions.add(Long.parseLong(ifMatch.substring(open + 1, close)));
+                } catch (NumberFormatException e) {
+                    // Not a tag this server ever issued, so it cannot match
+                }
+            }
+            pos = close + 1;
+            if (pos < ifMatch.length() && ifMatch.charAt(pos) != ',' && ifMatch.charAt(pos) != ' '
+                    && ifMatch.charAt(pos) != '\t') {
+                throw new BadRequestException("If-Match must be \"*\" or a list of quoted ETags, got " + ifMatch);
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException("If-Match " + ifMatch.trim() + " does not match the interview");
+        }
+        return versions;
+    }
+
+    private static long epochMicros(LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+}
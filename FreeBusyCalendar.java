@@ -0,0 +1,216 @@
+package com.interview.scheduler.service.availability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.scheduler.event.InterviewChangedEvent;
+import com.interview.scheduler.event.InterviewsRelayedEvent;
+import com.interview.scheduler.model.ArchivedInterview;
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.model.Participant;
+import com.interview.scheduler.repository.ArchivedInterviewRepository;
+import com.interview.scheduler.repository.InterviewRepository;
+import com.interview.scheduler.service.archive.InterviewArchive;
+import com.interview.scheduler.service.index.InterviewConflictIndex;
+import com.interview.scheduler.service.participant.ParticipantDirectory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Per-interviewer, per-day busy bitsets at a fixed slot granularity.
+ *
+ * Slot i of a day is set when any non-cancelled interview touches
+ * [i * slotMinutes, (i + 1) * slotMinutes). Days are built lazily from the
+ * conflict index, cached, and dropped again when an interview on them changes,
+ * through this instance or, as the outbox relay reports, through any other.
+ * Interviewers not asked about recently are dropped once the cache is full.
+ */
+@Component
+public class FreeBusyCalendar {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // Cached days per interviewer before the least recently used ones are dropped
+    private static final int MAX_CACHED_DAYS = 180;
+
+    private final InterviewConflictIndex conflictIndex;
+    private final InterviewRepository interviewRepository;
+    private final ArchivedInterviewRepository archivedInterviewRepository;
+    private final InterviewArchive archive;
+    private final ParticipantDirectory participantDirectory;
+    private final int slotMinutes;
+    private final int slotsPerDay;
+    private final int wordsPerDay;
+
+    private final Cache<String, InterviewerDays> calendars;
+
+    @Autowired
+    public FreeBusyCalendar(InterviewConflictIndex conflictIndex,
+                            InterviewRepository interviewRepository,
+                            ArchivedInterviewRepository archivedInterviewRepository,
+                            InterviewArchive archive,
+                            ParticipantDirectory participantDirectory,
+                            MeterRegistry meterRegistry,
+                            @Value("${interview.freebusy.slot-minutes:5}") int slotMinutes,
+                            @Value("${interview.freebusy.cache.maximum-size:2000}") long cacheMaximumSize) {
+        if (slotMinutes <= 0 || MINUTES_PER_DAY % slotMinutes != 0) {
+            throw new IllegalArgumentException(
+                "Free/busy slot size must evenly divide a day, got " + slotMinutes + " minutes");
+        }
+        this.conflictIndex = conflictIndex;
+        this.interviewRepository = interviewRepository;
+        this.archivedInterviewRepository = archivedInterviewRepository;
+        this.archive = archive;
+        this.participantDirectory = participantDirectory;
+        this.slotMinutes = slotMinutes;
+        this.slotsPerDay = MINUTES_PER_DAY / slotMinutes;
+        this.wordsPerDay = (slotsPerDay + Long.SIZE - 1) / Long.SIZE;
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, calendars, "interviews.freebusy");
+    }
+
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    public int getSlotsPerDay() {
+        return slotsPerDay;
+    }
+
+    /**
+     * Busy bitset of one interviewer for one day. The returned array is a copy.
+     */
+    public long[] busyBits(String interviewerEmail, LocalDate date) {
+        if (!conflictIndex.isReady()) {
+            return build(interviewerEmail, date);
+        }
+        long[] bits = calendars.get(Participant.normalizeEmail(interviewerEmail), email -> new InterviewerDays())
+                .get(date, day -> build(interviewerEmail, day));
+        return bits.clone();
+    }
+
+    /**
+     * Union of the busy bitsets of several interviewers; clear bits are free for all of them
+     */
+    public long[] combinedBusyBits(Collection<String> interviewerEmails, LocalDate date) {
+        long[] combined = new long[wordsPerDay];
+        for (String email : interviewerEmails) {
+            long[] bits = busyBits(email, date);
+            for (int word = 0; word < wordsPerDay; word++) {
+                combined[word] |= bits[word];
+            }
+        }
+        return combined;
+    }
+
+    /**
+     * Little-endian byte form of a day bitset: slot i is bit (i % 8) of byte (i / 8)
+     */
+    public byte[] toBytes(long[] bits) {
+        byte[] bytes = new byte[(slotsPerDay + Byte.SIZE - 1) / Byte.SIZE];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (bits[i / Long.BYTES] >>> ((i % Long.BYTES) * Byte.SIZE));
+        }
+        return bytes;
+    }
+
+    @TransactionalEventListener
+    public void onInterviewChanged(InterviewChangedEvent event) {
+        invalidate(event.getInterview());
+    }
+
+    // Runs after the conflict index has applied the same rows, so rebuilt days include them
+    @EventListener
+    public void onInterviewsRelayed(InterviewsRelayedEvent event) {
+        event.getInterviews().forEach(this::invalidate);
+    }
+
+    private void invalidate(Interview interview) {
+        InterviewerDays days = calendars.getIfPresent(Participant.normalizeEmail(interview.getInterviewerEmail()));
+        if (days != null) {
+            days.invalidate(interview.getStartTime().toLocalDate(),
+                            interview.getEndTime().minusNanos(1).toLocalDate());
+        }
+    }
+
+    private long[] build(String interviewerEmail, LocalDate date) {
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime dayEnd = dayStart.plusDays(1);
+        List<Interview> interviews = conflictIndex.isReady()
+            ? conflictIndex.findInterviewerInterviews(interviewerEmail, dayStart, dayEnd)
+            : interviewRepository.findInterviewerInterviews(participantDirectory.findId(interviewerEmail),
+                                                            Participant.normalizeEmail(interviewerEmail),
+                                                            dayStart, dayEnd);
+
+        long[] bits = new long[wordsPerDay];
+        for (Interview interview : interviews) {
+            markBusy(bits, dayStart, dayEnd, interview.getStartTime(), interview.getEndTime());
+        }
+        // Old enough days may hold archived interviews; the extra day covers ones running past midnight
+        if (archive.reaches(dayStart.minusDays(1))) {
+            for (ArchivedInterview interview : archivedInterviewRepository.findInterviewerInterviews(
+                    participantDirectory.findId(interviewerEmail), dayStart, dayEnd)) {
+                markBusy(bits, dayStart, dayEnd, interview.getStartTime(), interview.getEndTime());
+            }
+        }
+        return bits;
+    }
+
+    private void markBusy(long[] bits, LocalDateTime dayStart, LocalDateTime dayEnd,
+                          LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDateTime start = startTime.isBefore(dayStart) ? dayStart : startTime;
+        LocalDateTime end = endTime.isAfter(dayEnd) ? dayEnd : endTime;
+        long startSeconds = Duration.between(dayStart, start).getSeconds();
+        long endSeconds = Duration.between(dayStart, end).getSeconds();
+        int slotSeconds = slotMinutes * 60;
+        int fromSlot = (int) (startSeconds / slotSeconds);
+        int toSlot = (int) ((endSeconds + slotSeconds - 1) / slotSeconds);
+        setRange(bits, fromSlot, toSlot);
+    }
+
+    private static void setRange(long[] bits, int fromSlot, int toSlot) {
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            bits[slot / Long.SIZE] |= 1L << (slot % Long.SIZE);
+        }
+    }
+
+    /**
+     * Cached days of one interviewer. Loading and invalidation share a lock so a
+     * day built from a stale index cannot outlive the invalidation that follows it.
+     */
+    private static class InterviewerDays {
+
+        private final Map<LocalDate, long[]> days = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, long[]> eldest) {
+                return size() > MAX_CACHED_DAYS;
+            }
+        };
+
+        synchronized long[] get(LocalDate date, Function<LocalDate, long[]> loader) {
+            return days.computeIfAbsent(date, loader);
+        }
+
+        synchronized void invalidate(LocalDate from, LocalDate to) {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                days.remove(date);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.interview.scheduler.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+
+public class FreeBusyDay {
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    // Base64 of the day's busy bitset; slot i is bit (i % 8) of byte (i / 8)
+    private String busy;
+
+    // Constructors
+    public FreeBusyDay() {
+    }
+
+    public FreeBusyDay(LocalDate date, String busy) {
+        this.date = date;
+        this.busy = busy;
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public String getBusy() {
+        return busy;
+    }
+
+    public void setBusy(String busy) {
+        this.busy = busy;
+    }
+}
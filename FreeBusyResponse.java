@@ -0,0 +1,55 @@
+package com.interview.scheduler.dto;
+
+import java.util.List;
+
+public class FreeBusyResponse {
+
+    private List<String> interviewerEmails;
+    private int slotMinutes;
+    private int slotsPerDay;
+    private List<FreeBusyDay> days;
+
+    // Constructors
+    public FreeBusyResponse() {
+    }
+
+    public FreeBusyResponse(List<String> interviewerEmails, int slotMinutes, int slotsPerDay, List<FreeBusyDay> days) {
+        this.interviewerEmails = interviewerEmails;
+        this.slotMinutes = slotMinutes;
+        this.slotsPerDay = slotsPerDay;
+        this.days = days;
+    }
+
+    // Getters and Setters
+    public List<String> getInterviewerEmails() {
+        return interviewerEmails;
+    }
+
+    public void setInterviewerEmails(List<String> interviewerEmails) {
+        this.interviewerEmails = interviewerEmails;
+    }
+
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    public void setSlotMinutes(int slotMinutes) {
+        this.slotMinutes = slotMinutes;
+    }
+
+    public int getSlotsPerDay() {
+        return slotsPerDay;
+    }
+
+    public void setSlotsPerDay(int slotsPerDay) {
+        this.slotsPerDay = slotsPerDay;
+    }
+
+    public List<FreeBusyDay> getDays() {
+        return days;
+    }
+
+    public void setDays(List<FreeBusyDay> days) {
+        this.days = days;
+    }
+}
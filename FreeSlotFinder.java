@@ -0,0 +1,152 @@
+package com.interview.scheduler.service.availability;
+
+import com.interview.scheduler.exception.BadRequestException;
+import com.interview.scheduler.model.Interview;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Finds genuinely free windows given the busy intervals of the participants.
+ *
+ * Busy intervals are coalesced into one timeline, then candidate starts on a fixed
+ * grid inside working hours are walked in time order, jumping over busy blocks.
+ */
+@Component
+public class FreeSlotFinder {
+
+    private final WorkingHours defaultHours;
+
+    @Autowired
+    public FreeSlotFinder(@Value("${interview.suggestions.work-day-start:09:00}") LocalTime workDayStart,
+                          @Value("${interview.suggestions.work-day-end:18:00}") LocalTime workDayEnd,
+                          @Value("${interview.suggestions.include-weekends:false}") boolean includeWeekends,
+                          @Value("${interview.suggestions.step-minutes:30}") long stepMinutes) {
+        this.defaultHours = new WorkingHours(workDayStart, workDayEnd, includeWeekends, stepMinutes);
+    }
+
+    /**
+     * The configured working hours with any of the given overrides applied
+     */
+    public WorkingHours workingHours(LocalTime workDayStart, LocalTime workDayEnd, Boolean includeWeekends) {
+        try {
+            return new WorkingHours(
+                    workDayStart != null ? workDayStart : defaultHours.getWorkDayStart(),
+                    workDayEnd != null ? workDayEnd : defaultHours.getWorkDayEnd(),
+                    includeWeekends != null ? includeWeekends : defaultHours.isIncludeWeekends(),
+                    defaultHours.getStepMinutes());
+        } catch (IllegalArgumentException e) {
+            // The overrides come from the request
+            throw new BadRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Find up to count free windows of the given duration inside [searchFrom, searchTo],
+     * nearest to the requested start first.
+     */
+    public List<TimeWindow> findNearest(Collection<Interview> busy, LocalDateTime requestedStart,
+                                        Duration duration, LocalDateTime searchFrom,
+                                        LocalDateTime searchTo, int count) {
+        List<TimeWindow> sorted = busy.stream()
+                .map(interview -> new TimeWindow(interview.getStartTime(), interview.getEndTime()))
+                .sorted(Comparator.comparing(TimeWindow::getStart))
+                .collect(Collectors.toList());
+        List<TimeWindow> free = findFree(new BusyTimeline(List.of(sorted)), duration, searchFrom, searchTo,
+                                         Integer.MAX_VALUE, defaultHours);
+        free.sort(Comparator
+                .comparing((TimeWindow window) -> Duration.between(requestedStart, window.getStart()).abs())
+                .thenComparing(TimeWindow::getStart));
+        return free.subList(0, Math.min(count, free.size()));
+    }
+
+    /**
+     * Find the earliest count windows of the given duration inside [searchFrom, searchTo]
+     * in which every participant is free. Each participant's busy intervals must be
+     * sorted by start; they are merged lazily, so the search stops as soon as the
+     * windows are found.
+     */
+    public List<TimeWindow> findEarliest(Collection<? extends List<TimeWindow>> busyByParticipant,
+                                         Duration duration, LocalDateTime searchFrom,
+                                         LocalDateTime searchTo, int count, WorkingHours hours) {
+        return findFree(new BusyTimeline(busyByParticipant), duration, searchFrom, searchTo, count, hours);
+    }
+
+    /**
+     * Pack as many non-overlapping windows of the given duration as fit into the free
+     * time of one participant inside [searchFrom, searchTo], earliest first
+     */
+    public List<TimeWindow> findBackToBack(List<TimeWindow> sortedBusy, Duration duration,
+                                           LocalDateTime searchFrom, LocalDateTime searchTo, WorkingHours hours) {
+        List<TimeWindow> packed = new ArrayList<>();
+        for (TimeWindow window : findFree(new BusyTimeline(List.of(sortedBusy)), duration, searchFrom, searchTo,
+                                          Integer.MAX_VALUE, hours)) {
+            // All windows are equally long, so taking the earliest that starts after the last one is optimal
+            if (packed.isEmpty() || !window.getStart().isBefore(packed.get(packed.size() - 1).getEnd())) {
+                packed.add(window);
+            }
+        }
+        return packed;
+    }
+
+    private List<TimeWindow> findFree(BusyTimeline busy, Duration duration, LocalDateTime searchFrom,
+                                      LocalDateTime searchTo, int count, WorkingHours hours) {
+        List<TimeWindow> free = new ArrayList<>();
+        LocalDateTime start = nextWorkingStart(alignUp(searchFrom, hours), hours);
+
+        while (free.size() < count && !start.plus(duration).isAfter(searchTo)) {
+            LocalDateTime end = start.plus(duration);
+            if (!end.toLocalDate().equals(start.toLocalDate()) || end.toLocalTime().isAfter(hours.getWorkDayEnd())) {
+                start = nextWorkingStart(start.toLocalDate().plusDays(1).atTime(hours.getWorkDayStart()), hours);
+                continue;
+            }
+
+            while (busy.peek() != null && !busy.peek().getEnd().isAfter(start)) {
+                busy.advance();
+            }
+            if (busy.peek() != null && busy.peek().getStart().isBefore(end)) {
+                start = nextWorkingStart(alignUp(busy.peek().getEnd(), hours), hours);
+                continue;
+            }
+
+            free.add(new TimeWindow(start, end));
+            start = nextWorkingStart(start.plusMinutes(hours.getStepMinutes()), hours);
+        }
+        return free;
+    }
+
+    /**
+     * Move a candidate start forward into working hours on a working day
+     */
+    private LocalDateTime nextWorkingStart(LocalDateTime time, WorkingHours hours) {
+        LocalDateTime candidate = time;
+        while (true) {
+            if (!hours.isWorkingDay(candidate.getDayOfWeek())) {
+                candidate = alignUp(candidate.toLocalDate().plusDays(1).atTime(hours.getWorkDayStart()), hours);
+            } else if (candidate.toLocalTime().isBefore(hours.getWorkDayStart())) {
+                candidate = alignUp(candidate.toLocalDate().atTime(hours.getWorkDayStart()), hours);
+            } else if (!candidate.toLocalTime().isBefore(hours.getWorkDayEnd())) {
+                candidate = alignUp(candidate.toLocalDate().plusDays(1).atTime(hours.getWorkDayStart()), hours);
+            } else {
+                return candidate;
+            }
+        }
+    }
+
+    private LocalDateTime alignUp(LocalDateTime time, WorkingHours hours) {
+        LocalDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        long minutes = (long) Math.ceil(Duration.between(day, time).getSeconds() / 60.0);
+        long remainder = minutes % hours.getStepMinutes();
+        return day.plusMinutes(remainder == 0 ? minutes : minutes + hours.getStepMinutes() - remainder);
+    }
+}
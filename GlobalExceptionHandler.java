@@ -2,9 +2,11 @@ package com.interview.scheduler.exception;
 
 import com.interview.scheduler.dto.ConflictResponse;
 import com.interview.scheduler.dto.InterviewResponse;
-import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.mapper.InterviewMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
@@ -21,7 +24,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ConflictException.class)
     public ResponseEntity<ConflictResponse> handleConflictException(ConflictException ex) {
         List<InterviewResponse> conflicts = ex.getConflictingInterviews().stream()
-                .map(this::convertToResponse)
+                .map(InterviewMapper::toResponse)
                 .collect(Collectors.toList());
         
         ConflictResponse response = new ConflictResponse();
@@ -40,6 +43,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
     
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Map<String, String>> handlePreconditionFailedException(PreconditionFailedException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Precondition Failed");
+        error.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+    
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<Map<String, String>> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Unprocessable Entity");
+        error.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+    }
+    
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequestException(BadRequestException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Bad Request");
+        error.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -56,6 +83,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
     
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<Map<String, String>> handleConnectionUnavailable(Exception ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Service Unavailable");
+        error.put("message", "No database connection available. Please retry shortly.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+    
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, String>> handleRejectedExecution(RejectedExecutionException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Service Unavailable");
+        error.put("message", ex.getMessage() + ". Please retry shortly.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGeneralException(Exception ex) {
         Map<String, String> error = new HashMap<>();
@@ -63,21 +106,4 @@ public class GlobalExceptionHandler {
         error.put("message", ex.getMessage());
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
-    
-    private InterviewResponse convertToResponse(Interview interview) {
-        InterviewResponse response = new InterviewResponse();
-        response.setId(interview.getId());
-        response.setCandidateName(interview.getCandidateName());
-        response.setCandidateEmail(interview.getCandidateEmail());
-        response.setInterviewerName(interview.getInterviewerName());
-        response.setInterviewerEmail(interview.getInterviewerEmail());
-        response.setStartTime(interview.getStartTime());
-        response.setEndTime(interview.getEndTime());
-        response.setStatus(interview.getStatus());
-        response.setNotes(interview.getNotes());
-        response.setPosition(interview.getPosition());
-        response.setCreatedAt(interview.getCreatedAt());
-        response.setUpdatedAt(interview.getUpdatedAt());
-        return response;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.interview.scheduler.repository;
+
+import com.interview.scheduler.model.IdempotencyRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC access to the idempotency_keys table
+ */
+@Repository
+public class IdempotencyKeyRepository {
+
+    private static final String INSERT_KEY =
+            "INSERT INTO idempotency_keys (idempotency_key, request_fingerprint, created_at) VALUES (?, ?, ?)";
+
+    // Waits for a transaction holding the same key, then inserts nothing if it committed
+    private static final String INSERT_KEY_IF_ABSENT = INSERT_KEY + " ON CONFLICT DO NOTHING";
+
+    private static final String COMPLETE_KEY =
+            "UPDATE idempotency_keys SET interview_id = ?, response = ? WHERE idempotency_key = ?";
+
+    private static final String SELECT_KEY =
+            "SELECT idempotency_key, request_fingerprint, interview_id, response, created_at " +
+            "FROM idempotency_keys WHERE idempotency_key = ?";
+
+    private static final RowMapper<IdempotencyRecord> RECORD_MAPPER = (rs, rowNum) -> {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setIdempotencyKey(rs.getString("idempotency_key"));
+        record.setRequestFingerprint(rs.getString("request_fingerprint"));
+        record.setInterviewId(rs.getObject("interview_id", Long.class));
+        record.setResponse(rs.getString("response"));
+        record.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        return record;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public IdempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert the key without a response. If another transaction holds the same key
+     * this waits for it and then throws DataIntegrityViolationException if it committed.
+     */
+    public void claim(String key, String requestFingerprint, LocalDateTime createdAt) {
+        jdbcTemplate.update(INSERT_KEY, key, requestFingerprint, Timestamp.valueOf(createdAt));
+    }
+
+    /**
+     * Insert the key without a response unless it is already taken, waiting for another
+     * transaction holding it like claim does. Returns whether the key was inserted.
+     * Never fails the surrounding transaction, so other work in it can go on.
+     */
+    public boolean claimIfAbsent(String key, String requestFingerprint, LocalDateTime createdAt) {
+        return jdbcTemplate.update(INSERT_KEY_IF_ABSENT, key, requestFingerprint, Timestamp.valueOf(createdAt)) > 0;
+    }
+
+    public void complete(String key, Long interviewId, String response) {
+        jdbcTemplate.update(COMPLETE_KEY, interviewId, response, key);
+    }
+
+    public IdempotencyRecord find(String key) {
+        List<IdempotencyRecord> records = jdbcTemplate.query(SELECT_KEY, RECORD_MAPPER, key);
+        return records.isEmpty() ? null : records.get(0);
+    }
+
+    /**
+     * Delete keys created before the cutoff. Returns how many were deleted.
+     */
+    public int deleteCreatedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at < ?", Timestamp.valueOf(cutoff));
+    }
+}
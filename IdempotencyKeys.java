@@ -0,0 +1,228 @@
+package com.interview.scheduler.service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.scheduler.dto.IdempotentBooking;
+import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.exception.BadRequestException;
+import com.interview.scheduler.exception.IdempotencyKeyReusedException;
+import com.interview.scheduler.metrics.InterviewMetrics;
+import com.interview.scheduler.model.IdempotencyRecord;
+import com.interview.scheduler.repository.IdempotencyKeyRepository;
+import com.interview.scheduler.service.coalesce.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs a booking at most once per Idempotency-Key and replays its response afterwards.
+ *
+ * Recent results are answered from an in-memory LRU, older ones from the
+ * idempotency_keys table, neither of which touches the interviews table. Concurrent
+ * duplicates on this instance wait for the booking in flight; a duplicate on another
+ * instance blocks on the key row until the first booking commits. Failed bookings
+ * are not stored, so a retry after a conflict runs again.
+ *
+ * A booking committed elsewhere, such as by a pipeline partition, records the key
+ * itself: it claims and completes it in its own transaction, and nothing is held
+ * open while the caller waits for it.
+ */
+@Component
+public class IdempotencyKeys {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeys.class);
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final InterviewMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final Cache<String, StoredResponse> recent;
+    private final SingleFlight<String, StoredResponse> inFlight = new SingleFlight<>();
+
+    @Autowired
+    public IdempotencyKeys(IdempotencyKeyRepository repository,
+                           ObjectMapper objectMapper,
+                           InterviewMetrics metrics,
+                           MeterRegistry meterRegistry,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${interview.idempotency.retention:P1D}") Duration retention,
+                           @Value("${interview.idempotency.cache.maximum-size:10000}") long cacheMaximumSize) {
+        if (retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("Idempotency key retention must be positive, got " + retention);
+        }
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(retention)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recent, "interviews.idempotency");
+        metrics.monitorSingleFlight("idempotency_key", inFlight);
+    }
+
+    /**
+     * Run the booking unless the key has been used before, in which case its stored
+     * response is returned. The booking joins the transaction that records the key.
+     * Throws IdempotencyKeyReusedException if the key was used with a different request.
+     */
+    public IdempotentBooking execute(String key, Object request, Supplier<InterviewResponse> booking) {
+        return run(key, request, claim -> transactionTemplate.execute(status -> {
+            repository.claim(claim.key(), claim.fingerprint(), LocalDateTime.now());
+            InterviewResponse response = booking.get();
+            complete(claim, response);
+            return response;
+        }));
+    }
+
+    /**
+     * Like {@link #execute(String, Object, Supplier)}, but the booking records the key
+     * itself: in the transaction that commits it, it calls {@link #claim(Claim)} and,
+     * if that succeeds, {@link #complete(Claim, InterviewResponse)}. A booking whose claim
+     * fails must throw DataIntegrityViolationException; the stored response is returned.
+     */
+    public IdempotentBooking executeRecordedByBooking(String key, Object request,
+                                                      Function<Claim, InterviewResponse> booking) {
+        return run(key, request, booking);
+    }
+
+    /**
+     * Take the key in the current transaction. Returns false if another booking holds it,
+     * after waiting for that booking's transaction if it is still open.
+     */
+    public boolean claim(Claim claim) {
+        return repository.claimIfAbsent(claim.key(), claim.fingerprint(), LocalDateTime.now());
+    }
+
+    /**
+     * Store the response of the booking made with a key claimed in the current transaction
+     */
+    public void complete(Claim claim, InterviewResponse response) {
+        repository.complete(claim.key(), response.getId(), toJson(response));
+    }
+
+    private IdempotentBooking run(String key, Object request, Function<Claim, InterviewResponse> booking) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        Claim claim = new Claim(key, fingerprint(request));
+
+        AtomicBoolean booked = new AtomicBoolean(false);
+        StoredResponse stored = recent.getIfPresent(key);
+        if (stored == null) {
+            stored = inFlight.execute(key, () -> bookOnce(claim, booking, booked));
+        }
+        if (!stored.fingerprint().equals(claim.fingerprint())) {
+            throw new IdempotencyKeyReusedException(
+                "Idempotency-Key " + key + " was already used with a different request");
+        }
+        metrics.recordIdempotentRequest(!booked.get());
+        return new IdempotentBooking(stored.response(), !booked.get());
+    }
+
+    /**
+     * Delete keys older than the retention; requests reusing them book again
+     */
+    @Scheduled(initialDelayString = "${interview.idempotency.prune-interval:PT1H}",
+               fixedDelayString = "${interview.idempotency.prune-interval:PT1H}")
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int deleted = repository.deleteCreatedBefore(cutoff);
+        log.info("Pruned {} idempotency keys created before {}", deleted, cutoff);
+    }
+
+    private StoredResponse bookOnce(Claim claim, Function<Claim, InterviewResponse> booking, AtomicBoolean booked) {
+        StoredResponse stored = load(claim.key());
+        if (stored != null) {
+            return stored;
+        }
+        try {
+            stored = new StoredResponse(claim.fingerprint(), booking.apply(claim));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance booked with this key first; answer with its result
+            stored = load(claim.key());
+            if (stored == null) {
+                throw e;
+            }
+            return stored;
+        }
+        booked.set(true);
+        recent.put(claim.key(), stored);
+        return stored;
+    }
+
+    private StoredResponse load(String key) {
+        IdempotencyRecord record = repository.find(key);
+        if (record == null || record.getResponse() == null) {
+            return null;
+        }
+        StoredResponse stored;
+        try {
+            stored = new StoredResponse(record.getRequestFingerprint(),
+                                        objectMapper.readValue(record.getResponse(), InterviewResponse.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored response of idempotency key " + key, e);
+        }
+        recent.put(key, stored);
+        return stored;
+    }
+
+    private String toJson(InterviewResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize interview " + response.getId(), e);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+
+    /**
+     * A key and the fingerprint of the request made with it, for a booking to record
+     */
+    public record Claim(String key, String fingerprint) {
+
+        /**
+         * Failure of a booking whose claim found the key taken
+         */
+        public DataIntegrityViolationException taken() {
+            return new DuplicateKeyException("Idempotency-Key " + key + " is already taken");
+        }
+    }
+
+    private record StoredResponse(String fingerprint, InterviewResponse response) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.interview.scheduler.dto;
+
+public class IdempotentBooking {
+
+    private InterviewResponse interview;
+    private boolean replayed;
+
+    // Constructors
+    public IdempotentBooking() {
+    }
+
+    public IdempotentBooking(InterviewResponse interview, boolean replayed) {
+        this.interview = interview;
+        this.replayed = replayed;
+    }
+
+    // Getters and Setters
+    public InterviewResponse getInterview() {
+        return interview;
+    }
+
+    public void setInterview(InterviewResponse interview) {
+        this.interview = interview;
+    }
+
+    public boolean isReplayed() {
+        return replayed;
+    }
+
+    public void setReplayed(boolean replayed) {
+        this.replayed = replayed;
+    }
+}
@@ -0,0 +1,84 @@
+package com.interview.scheduler.dto;
+
+public class ImportChunkResult {
+
+    private int chunk;
+    private int firstRecord;
+    private int records;
+    private int importedCount;
+    private int rejectedCount;
+    private long durationMillis;
+    private long recordsPerSecond;
+
+    // Constructors
+    public ImportChunkResult() {
+    }
+
+    public ImportChunkResult(int chunk, int firstRecord, int records, int importedCount,
+                             int rejectedCount, long durationMillis, long recordsPerSecond) {
+        this.chunk = chunk;
+        this.firstRecord = firstRecord;
+        this.records = records;
+        this.importedCount = importedCount;
+        this.rejectedCount = rejectedCount;
+        this.durationMillis = durationMillis;
+        this.recordsPerSecond = recordsPerSecond;
+    }
+
+    // Getters and Setters
+    public int getChunk() {
+        return chunk;
+    }
+
+    public void setChunk(int chunk) {
+        this.chunk = chunk;
+    }
+
+    public int getFirstRecord() {
+        return firstRecord;
+    }
+
+    public void setFirstRecord(int firstRecord) {
+        this.firstRecord = firstRecord;
+    }
+
+    public int getRecords() {
+        return records;
+    }
+
+    public void setRecords(int records) {
+        this.records = records;
+    }
+
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    public void setImportedCount(int importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(int rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public long getRecordsPerSecond() {
+        return recordsPerSecond;
+    }
+
+    public void setRecordsPerSecond(long recordsPerSecond) {
+        this.recordsPerSecond = recordsPerSecond;
+    }
+}
@@ -0,0 +1,53 @@
+package com.interview.scheduler.service.importer;
+
+import com.interview.scheduler.dto.InterviewRequest;
+import com.interview.scheduler.model.InterviewStatus;
+
+/**
+ * One parsed record of an import file, or the reason it could not be parsed
+ */
+public class ImportRecord {
+
+    private final int number;
+    private final InterviewRequest request;
+    private final InterviewStatus status;
+    private final String error;
+
+    private ImportRecord(int number, InterviewRequest request, InterviewStatus status, String error) {
+        this.number = number;
+        this.request = request;
+        this.status = status;
+        this.error = error;
+    }
+
+    public static ImportRecord parsed(int number, InterviewRequest request, InterviewStatus status) {
+        return new ImportRecord(number, request, status, null);
+    }
+
+    public static ImportRecord failed(int number, String error) {
+        return new ImportRecord(number, null, null, error);
+    }
+
+    /**
+     * 1-based position of the record in the file, not counting a CSV header
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    public InterviewRequest getRequest() {
+        return request;
+    }
+
+    public InterviewStatus getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isParsed() {
+        return error == null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.interview.scheduler.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportRejection {
+
+    private int record;
+    private String reason;
+    private List<Long> conflictingInterviewIds = new ArrayList<>();
+
+    // Constructors
+    public ImportRejection() {
+    }
+
+    public ImportRejection(int record, String reason) {
+        this.record = record;
+        this.reason = reason;
+    }
+
+    // Getters and Setters
+    public int getRecord() {
+        return record;
+    }
+
+    public void setRecord(int record) {
+        this.record = record;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public List<Long> getConflictingInterviewIds() {
+        return conflictingInterviewIds;
+    }
+
+    public void setConflictingInterviewIds(List<Long> conflictingInterviewIds) {
+        this.conflictingInterviewIds = conflictingInterviewIds;
+    }
+}
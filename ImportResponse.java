@@ -0,0 +1,76 @@
+package com.interview.scheduler.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportResponse {
+
+    private int totalRecords;
+    private int importedCount;
+    private int rejectedCount;
+    private long durationMillis;
+    private List<ImportChunkResult> chunks = new ArrayList<>();
+    private List<ImportRejection> rejections = new ArrayList<>();
+    private boolean rejectionsTruncated;
+
+    // Constructors
+    public ImportResponse() {
+    }
+
+    // Getters and Setters
+    public int getTotalRecords() {
+        return totalRecords;
+    }
+
+    public void setTotalRecords(int totalRecords) {
+        this.totalRecords = totalRecords;
+    }
+
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    public void setImportedCount(int importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(int rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public List<ImportChunkResult> getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(List<ImportChunkResult> chunks) {
+        this.chunks = chunks;
+    }
+
+    public List<ImportRejection> getRejections() {
+        return rejections;
+    }
+
+    public void setRejections(List<ImportRejection> rejections) {
+        this.rejections = rejections;
+    }
+
+    public boolean isRejectionsTruncated() {
+        return rejectionsTruncated;
+    }
+
+    public void setRejectionsTruncated(boolean rejectionsTruncated) {
+        this.rejectionsTruncated = rejectionsTruncated;
+    }
+}
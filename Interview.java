@@ -1,14 +1,33 @@
 package com.interview.scheduler.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "interviews")
+@Table(name = "interviews", indexes = {
+    @Index(name = "idx_interviews_interviewer_id_time", columnList = "interviewer_id, start_time, end_time"),
+    @Index(name = "idx_interviews_candidate_id_time", columnList = "candidate_id, start_time, end_time"),
+    @Index(name = "idx_interviews_start_time", columnList = "start_time, id"),
+    @Index(name = "idx_interviews_panel", columnList = "panel_id")
+})
 public class Interview {
     
+    public static final String ID_SEQUENCE = "interviews_seq";
+    public static final int ID_BLOCK_SIZE = 50;
+    
+    // Pooled sequence instead of IDENTITY so inserts can be batched. Each nextval
+    // reserves ID_BLOCK_SIZE ids starting at the returned value (pooled-lo).
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "interview_id")
+    @GenericGenerator(name = "interview_id", type = SequenceStyleGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = ID_SEQUENCE),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "" + ID_BLOCK_SIZE),
+        @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+    })
     private Long id;
     
     @Column(nullable = false)
@@ -23,6 +42,25 @@ public class Interview {
     @Column(nullable = false)
     private String interviewerEmail;
     
+    // Participant ids conflict and listing queries filter on; the name and email
+    // columns keep what the request said, for display
+    @Column(name = "candidate_id")
+    private Long candidateId;
+    
+    @Column(name = "interviewer_id")
+    private Long interviewerId;
+    
+    // Only there for the foreign keys; the ids above are what gets written
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "candidate_id", insertable = false, updatable = false,
+                foreignKey = @ForeignKey(name = "fk_interviews_candidate"))
+    private Participant candidate;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "interviewer_id", insertable = false, updatable = false,
+                foreignKey = @ForeignKey(name = "fk_interviews_interviewer"))
+    private Participant interviewer;
+    
     @Column(nullable = false)
     private LocalDateTime startTime;
     
@@ -44,6 +82,10 @@ public class Interview {
     
     private LocalDateTime updatedAt;
     
+    // Shared by the interviews of one panel, one per interviewer; null for a single interviewer
+    @Column(name = "panel_id")
+    private Long panelId;
+    
     @Version
     private Long version;
     
@@ -124,6 +166,22 @@ public class Interview {
         this.interviewerEmail = interviewerEmail;
     }
     
+    public Long getCandidateId() {
+        return candidateId;
+    }
+    
+    public void setCandidateId(Long candidateId) {
+        this.candidateId = candidateId;
+    }
+    
+    public Long getInterviewerId() {
+        return interviewerId;
+    }
+    
+    public void setInterviewerId(Long interviewerId) {
+        this.interviewerId = interviewerId;
+    }
+    
     public LocalDateTime getStartTime() {
         return startTime;
     }
@@ -187,4 +245,12 @@ public class Interview {
     public void setVersion(Long version) {
         this.version = version;
     }
+    
+    public Long getPanelId() {
+        return panelId;
+    }
+    
+    public void setPanelId(Long panelId) {
+        this.panelId = panelId;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.interview.scheduler.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Moves expired interviews from the hot interviews table into interviews_archive
+ * with plain JDBC, one chunk of ids at a time. Callers must run inside a transaction.
+ */
+@Repository
+public class InterviewArchivalRepository {
+
+    private static final String COLUMNS =
+            "id, candidate_name, candidate_email, interviewer_name, interviewer_email, candidate_id, interviewer_id, " +
+            "start_time, end_time, status, notes, position, created_at, updated_at, version, panel_id";
+
+    // Locked so a status change cannot commit between copying a row and deleting it
+    private static final String LOCK_EXPIRED =
+            "SELECT id FROM interviews WHERE end_time < ? ORDER BY id LIMIT ? FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public InterviewArchivalRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Lock and return the ids of up to limit interviews that ended before the cutoff
+     */
+    public List<Long> lockExpired(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(LOCK_EXPIRED, Long.class, Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * Copy the interviews into the archive, then delete them and their slot claims.
+     * Returns the latest start time among them.
+     */
+    public LocalDateTime moveToArchive(List<Long> ids, LocalDateTime archivedAt) {
+        String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] idArgs = ids.toArray();
+        List<Object> insertArgs = new ArrayList<>();
+        insertArgs.add(Timestamp.valueOf(archivedAt));
+        insertArgs.addAll(ids);
+
+        Timestamp latestStart = jdbcTemplate.queryForObject(
+                "SELECT MAX(start_time) FROM interviews WHERE id IN (" + in + ")", Timestamp.class, idArgs);
+        jdbcTemplate.update("INSERT INTO interviews_archive (" + COLUMNS + ", archived_at) " +
+                            "SELECT " + COLUMNS + ", ? FROM interviews WHERE id IN (" + in + ")", insertArgs.toArray());
+        jdbcTemplate.update("DELETE FROM slot_claims WHERE interview_id IN (" + in + ")", idArgs);
+        jdbcTemplate.update("DELETE FROM interviews WHERE id IN (" + in + ")", idArgs);
+        return latestStart.toLocalDateTime();
+    }
+}
@@ -0,0 +1,105 @@
+package com.interview.scheduler.service.archive;
+
+import com.interview.scheduler.event.InterviewsArchivedEvent;
+import com.interview.scheduler.repository.ArchivedInterviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Tracks how far the interviews archive reaches so reads only consult it when the
+ * requested range can contain archived rows.
+ *
+ * Only interviews that ended before now minus the retention are archived, by any
+ * instance, so every archived interview starts before that cutoff or at the latest
+ * start time seen here, whichever is later. Whether the archive holds anything at all
+ * is shared state: while it looks empty it is re-read at most once per refresh interval.
+ */
+@Component
+public class InterviewArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(InterviewArchive.class);
+
+    private final ArchivedInterviewRepository archivedInterviewRepository;
+    private final Duration retention;
+    private final long refreshIntervalNanos;
+
+    // Null while the archive is empty
+    private volatile LocalDateTime latestStartTime;
+    private volatile long refreshedAt;
+
+    @Autowired
+    public InterviewArchive(ArchivedInterviewRepository archivedInterviewRepository,
+                            @Value("${interview.archive.retention:P180D}") Duration retention,
+                            @Value("${interview.archive.refresh-interval:PT1M}") Duration refreshInterval) {
+        if (retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("Archive retention must be positive, got " + retention);
+        }
+        if (refreshInterval.isNegative()) {
+            throw new IllegalArgumentException("Archive refresh interval cannot be negative, got " + refreshInterval);
+        }
+        this.archivedInterviewRepository = archivedInterviewRepository;
+        this.retention = retention;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.refreshedAt = System.nanoTime() - refreshIntervalNanos;
+    }
+
+    /**
+     * Reload the latest archived start time, which other instances may have moved
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        refreshedAt = System.nanoTime();
+        LocalDateTime latest = archivedInterviewRepository.findLatestStartTime();
+        if (latest != null) {
+            extendTo(latest);
+        }
+        log.info("Interview archive reaches up to start time {}", latestStartTime);
+    }
+
+    /**
+     * Interviews that ended before the returned time are due for the archive
+     */
+    public LocalDateTime cutoff(LocalDateTime now) {
+        return now.minus(retention);
+    }
+
+    // Raised before the moving transaction commits, so no read can see a row gone from
+    // the hot table while the archive still looks too short to hold it
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onInterviewsArchived(InterviewsArchivedEvent event) {
+        extendTo(event.getLatestStartTime());
+    }
+
+    public boolean isEmpty() {
+        if (latestStartTime == null && System.nanoTime() - refreshedAt >= refreshIntervalNanos) {
+            refresh();
+        }
+        return latestStartTime == null;
+    }
+
+    /**
+     * Whether the archive can hold an interview starting at or after the given time
+     */
+    public boolean reaches(LocalDateTime startTime) {
+        if (isEmpty()) {
+            return false;
+        }
+        return !startTime.isAfter(latestStartTime) || startTime.isBefore(cutoff(LocalDateTime.now()));
+    }
+
+    private synchronized void extendTo(LocalDateTime startTime) {
+        if (latestStartTime == null || startTime.isAfter(latestStartTime)) {
+            latestStartTime = startTime;
+        }
+    }
+}
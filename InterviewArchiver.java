@@ -0,0 +1,86 @@
+package com.interview.scheduler.service.archive;
+
+import com.interview.scheduler.event.InterviewsArchivedEvent;
+import com.interview.scheduler.metrics.InterviewMetrics;
+import com.interview.scheduler.repository.InterviewArchivalRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodically moves interviews that ended longer ago than the retention into the
+ * archive, one chunk per transaction, so the hot table only holds the recent past
+ * and the future that bookings and conflict checks work on.
+ */
+@Component
+@ConditionalOnProperty(name = "interview.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class InterviewArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(InterviewArchiver.class);
+
+    private final InterviewArchivalRepository archivalRepository;
+    private final InterviewArchive archive;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InterviewMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    @Autowired
+    public InterviewArchiver(InterviewArchivalRepository archivalRepository,
+                             InterviewArchive archive,
+                             ApplicationEventPublisher eventPublisher,
+                             InterviewMetrics metrics,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${interview.archive.chunk-size:1000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Archive chunk size must be positive, got " + chunkSize);
+        }
+        this.archivalRepository = archivalRepository;
+        this.archive = archive;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Archive every interview that ended before now minus the retention
+     */
+    @Scheduled(initialDelayString = "${interview.archive.interval:PT1H}",
+               fixedDelayString = "${interview.archive.interval:PT1H}")
+    public void archiveExpired() {
+        archive.refresh();
+        LocalDateTime cutoff = archive.cutoff(LocalDateTime.now());
+        log.info("Archiving interviews that ended before {}", cutoff);
+
+        int total = 0;
+        int moved;
+        do {
+            long startNanos = System.nanoTime();
+            moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            metrics.recordArchiveChunk(moved, System.nanoTime() - startNanos);
+            total += moved;
+        } while (moved == chunkSize);
+        log.info("Archived {} interviews", total);
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> ids = archivalRepository.lockExpired(cutoff, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime latestStart = archivalRepository.moveToArchive(ids, LocalDateTime.now());
+        eventPublisher.publishEvent(new InterviewsArchivedEvent(ids, latestStart));
+        return ids.size();
+    }
+}
@@ -0,0 +1,125 @@
+package com.interview.scheduler.repository;
+
+import com.interview.scheduler.model.Interview;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts many interviews with a single JDBC batch.
+ *
+ * Bypasses the persistence context and fills in ids, timestamps and version
+ * itself. Ids come from {@link InterviewIdAllocator}, so no generated keys
+ * have to be read back and the driver is free to rewrite the batch.
+ */
+@Repository
+public class InterviewBatchRepository {
+
+    private static final String INSERT_INTERVIEW =
+            "INSERT INTO interviews (candidate_name, candidate_email, interviewer_name, interviewer_email, " +
+            "candidate_id, interviewer_id, start_time, end_time, status, notes, position, created_at, updated_at, " +
+            "version, panel_id, id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InterviewIdAllocator idAllocator;
+
+    @Autowired
+    public InterviewBatchRepository(JdbcTemplate jdbcTemplate, InterviewIdAllocator idAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+    }
+
+    /**
+     * Insert all interviews, assigning their ids from the sequence
+     */
+    public void insertAll(List<Interview> interviews) {
+        if (interviews.isEmpty()) {
+            return;
+        }
+        assignIds(interviews);
+        batchInsert(interviews);
+    }
+
+    /**
+     * Insert the interviews of one panel; they all get the first interview's id as panel id
+     */
+    public void insertPanel(List<Interview> panel) {
+        assignIds(panel);
+        Long panelId = panel.get(0).getId();
+        panel.forEach(interview -> interview.setPanelId(panelId));
+        batchInsert(panel);
+    }
+
+    /**
+     * Insert several bookings in one batch. A booking of more than one interview is a
+     * panel and gets its first interview's id as panel id.
+     */
+    public void insertBookings(List<List<Interview>> bookings) {
+        List<Interview> interviews = new ArrayList<>();
+        bookings.forEach(interviews::addAll);
+        assignIds(interviews);
+        for (List<Interview> booking : bookings) {
+            if (booking.size() > 1) {
+                Long panelId = booking.get(0).getId();
+                booking.forEach(interview -> interview.setPanelId(panelId));
+            }
+        }
+        batchInsert(interviews);
+    }
+
+    private void assignIds(List<Interview> interviews) {
+        long[] ids = idAllocator.allocate(interviews.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < interviews.size(); i++) {
+            Interview interview = interviews.get(i);
+            interview.setId(ids[i]);
+            interview.setCreatedAt(now);
+            interview.setUpdatedAt(now);
+            interview.setVersion(0L);
+        }
+    }
+
+    private void batchInsert(List<Interview> interviews) {
+        jdbcTemplate.batchUpdate(INSERT_INTERVIEW, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Interview interview = interviews.get(i);
+                ps.setString(1, interview.getCandidateName());
+                ps.setString(2, interview.getCandidateEmail());
+                ps.setString(3, interview.getInterviewerName());
+                ps.setString(4, interview.getInterviewerEmail());
+                ps.setLong(5, interview.getCandidateId());
+                ps.setLong(6, interview.getInterviewerId());
+                ps.setTimestamp(7, Timestamp.valueOf(interview.getStartTime()));
+                ps.setTimestamp(8, Timestamp.valueOf(interview.getEndTime()));
+                ps.setString(9, interview.getStatus().name());
+                ps.setString(10, interview.getNotes());
+                ps.setString(11, interview.getPosition());
+                ps.setTimestamp(12, Timestamp.valueOf(interview.getCreatedAt()));
+                ps.setTimestamp(13, Timestamp.valueOf(interview.getUpdatedAt()));
+                ps.setLong(14, interview.getVersion());
+                if (interview.getPanelId() != null) {
+                    ps.setLong(15, interview.getPanelId());
+                } else {
+                    ps.setNull(15, Types.BIGINT);
+                }
+                ps.setLong(16, interview.getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return interviews.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,190 @@
+package com.interview.scheduler.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.scheduler.dto.InterviewPage;
+import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.dto.ListingVersion;
+import com.interview.scheduler.dto.PageCursor;
+import com.interview.scheduler.event.InterviewChangedEvent;
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.model.Participant;
+import com.interview.scheduler.model.ParticipantRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache for interview lookups by id, the per-interviewer
+ * and per-candidate listings, and the version of the listing of all interviews.
+ *
+ * Entries are dropped after every committed {@link InterviewChangedEvent} for the
+ * interview and both of its participants. The TTL only bounds staleness caused by
+ * writes made through other application instances.
+ */
+@Component
+public class InterviewCache {
+
+    // Cached listing pages per participant; deeper paging goes straight to the database
+    private static final int MAX_PAGES_PER_PARTICIPANT = 32;
+
+    private final Cache<Long, CachedInterview> byId;
+    private final Map<ParticipantRole, Cache<String, ParticipantPages>> byParticipant = new ConcurrentHashMap<>();
+    // Single entry; any local change replaces it
+    private final Cache<Boolean, CachedVersion> allVersion;
+
+    @Autowired
+    public InterviewCache(MeterRegistry meterRegistry,
+                          @Value("${interview.cache.by-id.maximum-size:10000}") long byIdMaximumSize,
+                          @Value("${interview.cache.by-participant.maximum-size:2000}") long byParticipantMaximumSize,
+                          @Value("${interview.cache.ttl:PT5M}") Duration ttl) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(byIdMaximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "interviews.by-id");
+
+        for (ParticipantRole role : ParticipantRole.values()) {
+            Cache<String, ParticipantPages> pages = Caffeine.newBuilder()
+                    .maximumSize(byParticipantMaximumSize)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, pages, "interviews.by-" + role.name().toLowerCase(Locale.ROOT));
+            byParticipant.put(role, pages);
+        }
+
+        this.allVersion = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Cached interview, loaded on a miss. A null result is not cached.
+     */
+    public InterviewResponse getById(Long id, Function<Long, InterviewResponse> loader) {
+        CachedInterview holder = byId.get(id, key -> new CachedInterview());
+        InterviewResponse response = holder.get(id, loader);
+        if (response == null) {
+            byId.asMap().remove(id, holder);
+        }
+        return response;
+    }
+
+    /**
+     * Cached listing page of one participant, loaded on a miss
+     */
+    public InterviewPage getParticipantPage(ParticipantRole role, String email, PageCursor after, int limit,
+                                            Supplier<InterviewPage> loader) {
+        String pageKey = (after == null ? "" : after.toString()) + "|" + limit;
+        return byParticipant.get(role)
+                .get(Participant.normalizeEmail(email), participant -> new ParticipantPages())
+                .get(pageKey, loader);
+    }
+
+    /**
+     * Cached version of one participant's listing, loaded on a miss
+     */
+    public ListingVersion getParticipantVersion(ParticipantRole role, String email, Supplier<ListingVersion> loader) {
+        return byParticipant.get(role)
+                .get(Participant.normalizeEmail(email), participant -> new ParticipantPages())
+                .getVersion(loader);
+    }
+    
+    /**
+     * Cached version of the listing of all interviews, loaded on a miss
+     */
+    public ListingVersion getAllVersion(Supplier<ListingVersion> loader) {
+        return allVersion.get(Boolean.TRUE, all -> new CachedVersion()).get(loader);
+    }
+    
+    @TransactionalEventListener
+    public void onInterviewChanged(InterviewChangedEvent event) {
+        Interview interview = event.getInterview();
+        allVersion.invalidateAll();
+        byId.invalidate(interview.getId());
+        byParticipant.get(ParticipantRole.INTERVIEWER)
+                .invalidate(Participant.normalizeEmail(interview.getInterviewerEmail()));
+        byParticipant.get(ParticipantRole.CANDIDATE)
+                .invalidate(Participant.normalizeEmail(interview.getCandidateEmail()));
+    }
+
+    /**
+     * Holder for one interview, loaded outside the cache's own compute lock so a slow
+     * query never blocks other keys (or pins a virtual thread's carrier). Invalidation
+     * replaces the holder, as for {@link ParticipantPages}.
+     */
+    private static class CachedInterview {
+
+        private volatile InterviewResponse response;
+
+        InterviewResponse get(Long id, Function<Long, InterviewResponse> loader) {
+            InterviewResponse cached = response;
+            if (cached == null) {
+                cached = loader.apply(id);
+                response = cached;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Holder for one listing version. Invalidation replaces the holder, and the first
+     * version loaded wins, so a version read before a change never outlives it.
+     */
+    private static class CachedVersion {
+
+        private final AtomicReference<ListingVersion> version = new AtomicReference<>();
+
+        ListingVersion get(Supplier<ListingVersion> loader) {
+            ListingVersion cached = version.get();
+            if (cached == null) {
+                version.compareAndSet(null, loader.get());
+                cached = version.get();
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Pages of one participant. Invalidation replaces the whole holder, so a page
+     * loaded from pre-commit data lands in a holder nobody can reach any more.
+     *
+     * The listing version is read before any page (see InterviewController), and the
+     * first version loaded wins, so a holder never tags a page with a newer version
+     * than the data it was read from.
+     */
+    private static class ParticipantPages {
+
+        private final Map<String, InterviewPage> pages = new ConcurrentHashMap<>();
+        private final CachedVersion version = new CachedVersion();
+
+        ListingVersion getVersion(Supplier<ListingVersion> loader) {
+            return version.get(loader);
+        }
+
+        InterviewPage get(String pageKey, Supplier<InterviewPage> loader) {
+            InterviewPage page = pages.get(pageKey);
+            if (page == null) {
+                page = loader.get();
+                if (pages.size() < MAX_PAGES_PER_PARTICIPANT) {
+                    pages.putIfAbsent(pageKey, page);
+                }
+            }
+            return page;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.interview.scheduler.event;
+
+import com.interview.scheduler.model.Interview;
+
+/**
+ * Published whenever an interview is created or its status changes.
+ * Listeners that keep in-memory views of the schedule should react
+ * after the surrounding transaction commits.
+ */
+public class InterviewChangedEvent {
+
+    public enum Change {
+        SCHEDULED,
+        STATUS_CHANGED
+    }
+
+    private final Interview interview;
+    private final Change change;
+
+    public InterviewChangedEvent(Interview interview, Change change) {
+        this.interview = interview;
+        this.change = change;
+    }
+
+    public Interview getInterview() {
+        return interview;
+    }
+
+    public Change getChange() {
+        return change;
+    }
+}
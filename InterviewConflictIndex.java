@@ -0,0 +1,214 @@
+package com.interview.scheduler.service.index;
+
+import com.interview.scheduler.event.InterviewChangedEvent;
+import com.interview.scheduler.event.InterviewsArchivedEvent;
+import com.interview.scheduler.event.InterviewsRelayedEvent;
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.model.InterviewStatus;
+import com.interview.scheduler.model.Participant;
+import com.interview.scheduler.repository.InterviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory per-participant interval index of all non-cancelled interviews,
+ * keyed by normalized participant email.
+ *
+ * Warmed from the repository at startup and kept up to date from committed
+ * {@link InterviewChangedEvent}s of this instance and, within an outbox poll
+ * interval, from {@link InterviewsRelayedEvent}s covering every instance. It serves
+ * read-only conflict checks; the database remains the source of truth for actual
+ * bookings.
+ */
+@Component
+public class InterviewConflictIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(InterviewConflictIndex.class);
+
+    private final InterviewRepository interviewRepository;
+
+    private final Map<Long, Interview> interviewsById = new ConcurrentHashMap<>();
+    private final Map<String, ParticipantSchedule> interviewerSchedules = new ConcurrentHashMap<>();
+    private final Map<String, ParticipantSchedule> candidateSchedules = new ConcurrentHashMap<>();
+    // Version at which an interview left the index before warm-up finished; older snapshot rows are skipped
+    private final Map<Long, Long> tombstones = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    @Autowired
+    public InterviewConflictIndex(InterviewRepository interviewRepository) {
+        this.interviewRepository = interviewRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        log.info("Warming interview conflict index");
+        List<Interview> interviews = interviewRepository.findByStatusNot(InterviewStatus.CANCELLED);
+        synchronized (this) {
+            interviews.forEach(this::apply);
+            tombstones.clear();
+            ready = true;
+        }
+        log.info("Interview conflict index ready with {} interviews", interviewsById.size());
+    }
+
+    // Runs before other listeners so views derived from the index see the change
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onInterviewChanged(InterviewChangedEvent event) {
+        apply(event.getInterview());
+    }
+
+    // Changes made through any instance, including this one; reapplying a version already held is harmless
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onInterviewsRelayed(InterviewsRelayedEvent event) {
+        event.getInterviews().forEach(this::apply);
+    }
+
+    @TransactionalEventListener
+    public void onInterviewsArchived(InterviewsArchivedEvent event) {
+        event.getInterviewIds().forEach(this::remove);
+    }
+
+    /**
+     * Whether the index has been fully loaded and can answer queries
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Find non-cancelled interviews overlapping the given slot for either participant.
+     * Interviews matching both participants are returned once.
+     */
+    public List<Interview> findConflicts(String interviewerEmail, String candidateEmail,
+                                         LocalDateTime startTime, LocalDateTime endTime) {
+        Map<Long, Interview> conflicts = new LinkedHashMap<>();
+        for (Interview interview : findOverlapping(interviewerSchedules, interviewerEmail, startTime, endTime)) {
+            conflicts.put(interview.getId(), interview);
+        }
+        for (Interview interview : findOverlapping(candidateSchedules, candidateEmail, startTime, endTime)) {
+            conflicts.putIfAbsent(interview.getId(), interview);
+        }
+        return new ArrayList<>(conflicts.values());
+    }
+
+    /**
+     * Find non-cancelled interviews of one interviewer overlapping the given range
+     */
+    public List<Interview> findInterviewerInterviews(String interviewerEmail,
+                                                     LocalDateTime startTime, LocalDateTime endTime) {
+        return findOverlapping(interviewerSchedules, interviewerEmail, startTime, endTime);
+    }
+
+    /**
+     * Find non-cancelled interviews of one candidate overlapping the given range
+     */
+    public List<Interview> findCandidateInterviews(String candidateEmail,
+                                                   LocalDateTime startTime, LocalDateTime endTime) {
+        return findOverlapping(candidateSchedules, candidateEmail, startTime, endTime);
+    }
+    
+    /**
+     * Insert, replace or drop an interview. Older versions than the one already
+     * indexed, or than a cancellation seen during warm-up, are ignored so the
+     * warm-up snapshot cannot undo a newer change.
+     */
+    synchronized void apply(Interview source) {
+        Interview existing = interviewsById.get(source.getId());
+        if (existing != null && isOlder(source, existing.getVersion())) {
+            return;
+        }
+        if (!ready) {
+            Long removedAt = tombstones.get(source.getId());
+            if (removedAt != null && isOlder(source, removedAt)) {
+                return;
+            }
+            if (source.getStatus() == InterviewStatus.CANCELLED && source.getVersion() != null) {
+                tombstones.merge(source.getId(), source.getVersion(), Math::max);
+            }
+        }
+        if (existing != null) {
+            removeFrom(interviewerSchedules, existing.getInterviewerEmail(), existing);
+            removeFrom(candidateSchedules, existing.getCandidateEmail(), existing);
+            interviewsById.remove(existing.getId());
+        }
+        if (source.getStatus() == InterviewStatus.CANCELLED) {
+            return;
+        }
+
+        Interview copy = copyOf(source);
+        interviewsById.put(copy.getId(), copy);
+        interviewerSchedules.computeIfAbsent(Participant.normalizeEmail(copy.getInterviewerEmail()),
+                                             email -> new ParticipantSchedule()).add(copy);
+        candidateSchedules.computeIfAbsent(Participant.normalizeEmail(copy.getCandidateEmail()),
+                                           email -> new ParticipantSchedule()).add(copy);
+    }
+
+    private synchronized void remove(Long id) {
+        if (!ready) {
+            // Archived rows never come back, whatever version the snapshot read
+            tombstones.put(id, Long.MAX_VALUE);
+        }
+        Interview existing = interviewsById.remove(id);
+        if (existing != null) {
+            removeFrom(interviewerSchedules, existing.getInterviewerEmail(), existing);
+            removeFrom(candidateSchedules, existing.getCandidateEmail(), existing);
+        }
+    }
+
+    private List<Interview> findOverlapping(Map<String, ParticipantSchedule> schedules, String email,
+                                            LocalDateTime startTime, LocalDateTime endTime) {
+        ParticipantSchedule schedule = schedules.get(Participant.normalizeEmail(email));
+        if (schedule == null) {
+            return List.of();
+        }
+        return schedule.findOverlapping(startTime, endTime);
+    }
+
+    private void removeFrom(Map<String, ParticipantSchedule> schedules, String email, Interview interview) {
+        String key = Participant.normalizeEmail(email);
+        ParticipantSchedule schedule = schedules.get(key);
+        if (schedule == null) {
+            return;
+        }
+        schedule.remove(interview);
+        if (schedule.isEmpty()) {
+            schedules.remove(key);
+        }
+    }
+
+    private boolean isOlder(Interview candidate, Long currentVersion) {
+        return candidate.getVersion() != null && currentVersion != null
+                && candidate.getVersion() < currentVersion;
+    }
+
+    // Detached copy so later changes to the managed entity cannot corrupt the ordering
+    private Interview copyOf(Interview interview) {
+        Interview copy = new Interview(interview.getId(), interview.getCandidateName(), interview.getCandidateEmail(),
+                interview.getInterviewerName(), interview.getInterviewerEmail(),
+                interview.getStartTime(), interview.getEndTime(),
+                interview.getStatus(), interview.getNotes(), interview.getPosition(),
+                interview.getCreatedAt(), interview.getUpdatedAt(), interview.getVersion());
+        copy.setPanelId(interview.getPanelId());
+        copy.setInterviewerId(interview.getInterviewerId());
+        copy.setCandidateId(interview.getCandidateId());
+        return copy;
+    }
+}
@@ -1,19 +1,47 @@
 package com.interview.scheduler.controller;
 
+import com.interview.scheduler.dto.AutoScheduleRequest;
+import com.interview.scheduler.dto.AutoScheduleResponse;
+import com.interview.scheduler.dto.BatchInterviewRequest;
+import com.interview.scheduler.dto.BatchInterviewResponse;
 import com.interview.scheduler.dto.ConflictResponse;
+import com.interview.scheduler.dto.FreeBusyResponse;
+import com.interview.scheduler.dto.IdempotentBooking;
+import com.interview.scheduler.dto.ImportResponse;
+import com.interview.scheduler.dto.InterviewFileFormat;
+import com.interview.scheduler.dto.InterviewPage;
 import com.interview.scheduler.dto.InterviewRequest;
 import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.dto.PageCursor;
+import com.interview.scheduler.dto.SlotSearchRequest;
+import com.interview.scheduler.dto.SlotSearchResponse;
+import com.interview.scheduler.exception.BadRequestException;
 import com.interview.scheduler.model.InterviewStatus;
+import com.interview.scheduler.service.AutoSchedulingService;
 import com.interview.scheduler.service.InterviewService;
+import com.interview.scheduler.service.outbox.InterviewStream;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/interviews")
@@ -22,46 +50,170 @@ public class InterviewController {
     
     private static final Logger log = LoggerFactory.getLogger(InterviewController.class);
     
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    
     private final InterviewService interviewService;
+    private final AutoSchedulingService autoSchedulingService;
+    private final InterviewStream interviewStream;
     
     @Autowired
-    public InterviewController(InterviewService interviewService) {
+    public InterviewController(InterviewService interviewService, AutoSchedulingService autoSchedulingService,
+                               InterviewStream interviewStream) {
         this.interviewService = interviewService;
+        this.autoSchedulingService = autoSchedulingService;
+        this.interviewStream = interviewStream;
     }
     
+    /**
+     * With an Idempotency-Key, retries of the same request get the first booking's
+     * response back, flagged by Idempotent-Replayed, instead of booking again
+     */
     @PostMapping
-    public ResponseEntity<InterviewResponse> scheduleInterview(@Valid @RequestBody InterviewRequest request) {
+    public ResponseEntity<InterviewResponse> scheduleInterview(
+            @Valid @RequestBody InterviewRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         log.info("Received request to schedule interview for candidate: {}", request.getCandidateEmail());
-        InterviewResponse response = interviewService.scheduleInterview(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        if (idempotencyKey == null) {
+            InterviewResponse response = interviewService.scheduleInterview(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+        IdempotentBooking booking = interviewService.scheduleInterview(request, idempotencyKey);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(booking.isReplayed()))
+                .body(booking.getInterview());
+    }
+    
+    @PostMapping("/batch")
+    public ResponseEntity<BatchInterviewResponse> scheduleInterviews(@Valid @RequestBody BatchInterviewRequest request) {
+        log.info("Received request to schedule batch of {} interviews", request.getInterviews().size());
+        BatchInterviewResponse response = interviewService.scheduleInterviews(request);
+        HttpStatus status = response.isPersisted() ? HttpStatus.CREATED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(response);
+    }
+    
+    @PostMapping("/auto-schedule")
+    public ResponseEntity<AutoScheduleResponse> autoSchedule(@Valid @RequestBody AutoScheduleRequest request) {
+        log.info("Received request to auto-schedule {} candidates", request.getCandidates().size());
+        AutoScheduleResponse response = autoSchedulingService.autoSchedule(request);
+        HttpStatus status = response.getPlaced() > 0 ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(response);
     }
     
     @PostMapping("/check-conflicts")
-    public ResponseEntity<ConflictResponse> checkConflicts(@Valid @RequestBody InterviewRequest request) {
+    public ResponseEntity<ConflictResponse> checkConflicts(
+            @Valid @RequestBody InterviewRequest request,
+            @RequestParam(required = false) Integer suggestions,
+            @RequestParam(required = false) Integer horizonDays) {
         log.info("Received request to check conflicts for candidate: {}", request.getCandidateEmail());
-        ConflictResponse response = interviewService.checkConflicts(request);
+        Duration horizon = horizonDays != null ? Duration.ofDays(horizonDays) : null;
+        ConflictResponse response = interviewService.checkConflicts(request, suggestions, horizon);
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/find-slot")
+    public ResponseEntity<SlotSearchResponse> findSlot(@Valid @RequestBody SlotSearchRequest request) {
+        log.info("Received request to find free slots for interviewers: {}", request.getInterviewerEmails());
+        SlotSearchResponse response = interviewService.findSlots(request);
         return ResponseEntity.ok(response);
     }
     
     @GetMapping
-    public ResponseEntity<List<InterviewResponse>> getAllInterviews() {
-        log.info("Received request to fetch all interviews");
-        List<InterviewResponse> interviews = interviewService.getAllInterviews();
-        return ResponseEntity.ok(interviews);
+    public ResponseEntity<List<InterviewResponse>> getAllInterviews(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + InterviewPage.DEFAULT_LIMIT) int limit,
+            WebRequest webRequest) {
+        log.info("Received request to fetch interviews after: {}", after);
+        String eTag = ETags.ofListing(interviewService.getAllInterviewsVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        InterviewPage page = interviewService.getAllInterviews(PageCursor.parse(after), limit);
+        return toPageResponse(page, eTag);
+    }
+    
+    /**
+     * Bulk import from a CSV or NDJSON body, chosen by its content type
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResponse> importInterviews(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        log.info("Received request to import interviews as {}", contentType);
+        ImportResponse response = interviewService.importInterviews(InterviewFileFormat.fromMediaType(contentType), body);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Stream interviews starting in [from, to) as NDJSON or CSV without buffering them
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportInterviews(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Received request to export interviews as {} from {} to {}", format, from, to);
+        // Validate before streaming starts, while an error can still get its own status and body
+        InterviewFileFormat exportFormat = InterviewFileFormat.parse(format);
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BadRequestException("Export range start must be before its end");
+        }
+        
+        StreamingResponseBody body = out -> interviewService.exportInterviews(exportFormat, from, to, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("interviews." + exportFormat.getExtension()).build().toString())
+                .body(body);
     }
     
+    /**
+     * Push interview changes as server-sent events instead of polling the listings.
+     * Reconnecting clients send Last-Event-ID and are replayed what they missed.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamInterviewChanges(
+            @RequestParam(required = false) String interviewer,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("Received request to stream interview changes for interviewer: {}", interviewer);
+        return interviewStream.subscribe(interviewer, lastEventId);
+    }
+    
+    /**
+     * Lookups are served from the cache, so If-None-Match is checked against the cached
+     * version; Spring turns the response into a 304 when the ETag matches.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<InterviewResponse> getInterviewById(@PathVariable Long id) {
         log.info("Received request to fetch interview with ID: {}", id);
         InterviewResponse response = interviewService.getInterviewById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.ofVersion(response.getVersion()))
+                .body(response);
+    }
+    
+    @GetMapping("/panel/{panelId}")
+    public ResponseEntity<List<InterviewResponse>> getPanel(@PathVariable Long panelId) {
+        log.info("Received request to fetch panel with ID: {}", panelId);
+        List<InterviewResponse> response = interviewService.getPanel(panelId);
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * With If-Match, the update only applies if the interview is still at one of the tagged versions
+     */
     @PatchMapping("/{id}/status")
-    public ResponseEntity<InterviewResponse> updateInterviewStatus(@PathVariable Long id, @RequestParam InterviewStatus status) {
+    public ResponseEntity<InterviewResponse> updateInterviewStatus(
+            @PathVariable Long id,
+            @RequestParam InterviewStatus status,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Received request to update interview {} status to {}", id, status);
-        InterviewResponse response = interviewService.updateInterviewStatus(id, status);
-        return ResponseEntity.ok(response);
+        Set<Long> acceptedVersions = ETags.acceptedVersions(ifMatch);
+        InterviewResponse response = interviewService.updateInterviewStatus(id, status, acceptedVersions);
+        return ResponseEntity.ok()
+                .eTag(ETags.ofVersion(response.getVersion()))
+                .body(response);
     }
     
     @DeleteMapping("/{id}")
@@ -72,23 +224,75 @@ public class InterviewController {
     }
     
     @GetMapping("/upcoming")
-    public ResponseEntity<List<InterviewResponse>> getUpcomingInterviews() {
-        log.info("Received request to fetch upcoming interviews");
-        List<InterviewResponse> interviews = interviewService.getUpcomingInterviews();
-        return ResponseEntity.ok(interviews);
+    public ResponseEntity<List<InterviewResponse>> getUpcomingInterviews(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Duration within,
+            @RequestParam(defaultValue = "" + InterviewPage.DEFAULT_LIMIT) int limit) {
+        log.info("Received request to fetch upcoming interviews after: {} within: {}", after, within);
+        InterviewPage page = interviewService.getUpcomingInterviews(PageCursor.parse(after), within, limit);
+        // Served from memory, so the page itself is tagged; Spring answers a matching If-None-Match with 304
+        return toPageResponse(page, ETags.ofPage(page));
     }
     
     @GetMapping("/interviewer/{email}")
-    public ResponseEntity<List<InterviewResponse>> getInterviewsByInterviewer(@PathVariable String email) {
+    public ResponseEntity<List<InterviewResponse>> getInterviewsByInterviewer(
+            @PathVariable String email,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + InterviewPage.DEFAULT_LIMIT) int limit,
+            WebRequest webRequest) {
         log.info("Received request to fetch interviews for interviewer: {}", email);
-        List<InterviewResponse> interviews = interviewService.getInterviewsByInterviewer(email);
-        return ResponseEntity.ok(interviews);
+        String eTag = ETags.ofListing(interviewService.getInterviewerListingVersion(email));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        InterviewPage page = interviewService.getInterviewsByInterviewer(email, PageCursor.parse(after), limit);
+        return toPageResponse(page, eTag);
+    }
+    
+    @GetMapping("/interviewer/{email}/freebusy")
+    public ResponseEntity<FreeBusyResponse> getInterviewerFreeBusy(
+            @PathVariable String email,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Received request to fetch free/busy for interviewer: {}", email);
+        FreeBusyResponse response = interviewService.getInterviewerFreeBusy(email, from, to);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/freebusy")
+    public ResponseEntity<FreeBusyResponse> getCombinedFreeBusy(
+            @RequestParam("interviewer") List<String> interviewerEmails,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Received request to fetch combined free/busy for interviewers: {}", interviewerEmails);
+        FreeBusyResponse response = interviewService.getCombinedFreeBusy(interviewerEmails, from, to);
+        return ResponseEntity.ok(response);
     }
     
     @GetMapping("/candidate/{email}")
-    public ResponseEntity<List<InterviewResponse>> getInterviewsByCandidate(@PathVariable String email) {
+    public ResponseEntity<List<InterviewResponse>> getInterviewsByCandidate(
+            @PathVariable String email,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + InterviewPage.DEFAULT_LIMIT) int limit,
+            WebRequest webRequest) {
         log.info("Received request to fetch interviews for candidate: {}", email);
-        List<InterviewResponse> interviews = interviewService.getInterviewsByCandidate(email);
-        return ResponseEntity.ok(interviews);
+        String eTag = ETags.ofListing(interviewService.getCandidateListingVersion(email));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        InterviewPage page = interviewService.getInterviewsByCandidate(email, PageCursor.parse(after), limit);
+        return toPageResponse(page, eTag);
+    }
+    
+    /**
+     * Listing bodies stay plain arrays; the cursor for the next page travels in a header.
+     * The ETag is computed before the page is read, so it is never newer than the body.
+     */
+    private ResponseEntity<List<InterviewResponse>> toPageResponse(InterviewPage page, String eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(eTag);
+        if (page.getNextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return builder.body(page.getInterviews());
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.interview.scheduler.repository;
+
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.model.InterviewStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads interviews row by row through a forward-only JDBC cursor.
+ *
+ * Only the current fetch is held in memory. PostgreSQL honours the fetch size
+ * only with auto-commit off, so callers must run inside a transaction.
+ */
+@Repository
+public class InterviewExportRepository {
+
+    private static final String COLUMNS =
+            "id, candidate_name, candidate_email, interviewer_name, interviewer_email, " +
+            "start_time, end_time, status, notes, position, created_at, updated_at, version, panel_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public InterviewExportRepository(JdbcTemplate jdbcTemplate,
+                                     @Value("${interview.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Pass every interview starting in [from, to) to the action, ordered by start time.
+     * Either bound may be null. Archived interviews are merged in when includeArchive is set.
+     */
+    public void forEachInterview(LocalDateTime from, LocalDateTime to, boolean includeArchive,
+                                 Consumer<Interview> action) {
+        StringBuilder where = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        if (from != null) {
+            where.append(args.isEmpty() ? " WHERE" : " AND").append(" start_time >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            where.append(args.isEmpty() ? " WHERE" : " AND").append(" start_time < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM interviews").append(where);
+        List<Object> allArgs = new ArrayList<>(args);
+        if (includeArchive) {
+            sql.append(" UNION ALL SELECT " + COLUMNS + " FROM interviews_archive").append(where);
+            allArgs.addAll(args);
+        }
+        sql.append(" ORDER BY start_time, id");
+
+        RowCallbackHandler handler = rs -> action.accept(mapRow(rs));
+        jdbcTemplate.query(sql.toString(), handler, allArgs.toArray());
+    }
+
+    private Interview mapRow(ResultSet rs) throws SQLException {
+        Interview interview = new Interview(
+            rs.getLong("id"),
+            rs.getString("candidate_name"),
+            rs.getString("candidate_email"),
+            rs.getString("interviewer_name"),
+            rs.getString("interviewer_email"),
+            toLocalDateTime(rs.getTimestamp("start_time")),
+            toLocalDateTime(rs.getTimestamp("end_time")),
+            InterviewStatus.valueOf(rs.getString("status")),
+            rs.getString("notes"),
+            rs.getString("position"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at")),
+            rs.getLong("version")
+        );
+        long panelId = rs.getLong("panel_id");
+        interview.setPanelId(rs.wasNull() ? null : panelId);
+        return interview;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.interview.scheduler.dto;
+
+import com.interview.scheduler.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+/**
+ * File formats of the streaming interview export and the bulk import
+ */
+public enum InterviewFileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    InterviewFileFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return MediaType.parseMediaType(mediaType);
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Format of a request body, from its content type
+     */
+    public static InterviewFileFormat fromMediaType(MediaType contentType) {
+        for (InterviewFileFormat format : values()) {
+            if (format.getMediaType().isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported content type: " + contentType + " (use text/csv or application/x-ndjson)");
+    }
+
+    /**
+     * Parse a format name case-insensitively
+     */
+    public static InterviewFileFormat parse(String value) {
+        for (InterviewFileFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported export format: " + value + " (use ndjson or csv)");
+    }
+}
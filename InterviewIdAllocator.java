@@ -0,0 +1,53 @@
+package com.interview.scheduler.repository;
+
+import com.interview.scheduler.model.Interview;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out interview ids for JDBC inserts from the same pooled sequence Hibernate uses.
+ *
+ * Every nextval reserves a block of {@link Interview#ID_BLOCK_SIZE} ids starting at
+ * the returned value, so allocating n ids costs n / ID_BLOCK_SIZE round trips and
+ * never collides with ids Hibernate allocates from its own blocks.
+ */
+@Repository
+public class InterviewIdAllocator {
+
+    private static final String NEXT_BLOCK = "SELECT nextval('" + Interview.ID_SEQUENCE + "')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // A lock rather than synchronized: the nextval call must not pin a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private long nextId;
+    private long blockEnd;
+
+    @Autowired
+    public InterviewIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Allocate count ids. They are unique but not necessarily contiguous.
+     */
+    public long[] allocate(int count) {
+        long[] ids = new long[count];
+        lock.lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (nextId == blockEnd) {
+                    nextId = jdbcTemplate.queryForObject(NEXT_BLOCK, Long.class);
+                    blockEnd = nextId + Interview.ID_BLOCK_SIZE;
+                }
+                ids[i] = nextId++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return ids;
+    }
+}
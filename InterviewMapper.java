@@ -0,0 +1,33 @@
+package com.interview.scheduler.mapper;
+
+import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.model.Interview;
+
+/**
+ * The one place an Interview entity is turned into its API representation.
+ * Read-only listings skip it by selecting InterviewResponse directly.
+ */
+public final class InterviewMapper {
+
+    private InterviewMapper() {
+    }
+
+    public static InterviewResponse toResponse(Interview interview) {
+        return new InterviewResponse(
+            interview.getId(),
+            interview.getCandidateName(),
+            interview.getCandidateEmail(),
+            interview.getInterviewerName(),
+            interview.getInterviewerEmail(),
+            interview.getStartTime(),
+            interview.getEndTime(),
+            interview.getStatus(),
+            interview.getNotes(),
+            interview.getPosition(),
+            interview.getCreatedAt(),
+            interview.getUpdatedAt(),
+            interview.getVersion(),
+            interview.getPanelId()
+        );
+    }
+}
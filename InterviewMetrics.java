@@ -0,0 +1,229 @@
+package com.interview.scheduler.metrics;
+
+import com.interview.scheduler.service.coalesce.SingleFlight;
+import com.interview.scheduler.service.outbox.InterviewStream;
+import com.interview.scheduler.service.pipeline.BookingPipeline;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters for the booking and read paths of the interview service.
+ *
+ * Booking time is split into phases. A locked conflict query includes the time
+ * spent waiting for row locks, so comparing conflict_query_locked with the
+ * unlocked conflict_query timer isolates lock wait. Connection pool wait is
+ * covered by the hikaricp_* metrics Spring Boot binds automatically.
+ */
+@Component
+public class InterviewMetrics {
+
+    public static final String PHASE_CONFLICT_QUERY = "conflict_query";
+    public static final String PHASE_CONFLICT_QUERY_LOCKED = "conflict_query_locked";
+    public static final String PHASE_INSERT = "insert";
+    public static final String PHASE_SLOT_CLAIM = "slot_claim";
+    public static final String PHASE_COMMIT = "commit";
+
+    private final MeterRegistry registry;
+
+    @Autowired
+    public InterviewMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Time one phase of a booking
+     */
+    public <T> T recordPhase(String operation, String phase, Supplier<T> work) {
+        return phaseTimer(operation, phase).record(work);
+    }
+
+    public void recordPhase(String operation, String phase, Runnable work) {
+        phaseTimer(operation, phase).record(work);
+    }
+
+    /**
+     * Time the commit of the current transaction, if there is one
+     */
+    public void recordCommit(String operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Timer timer = phaseTimer(operation, PHASE_COMMIT);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long startNanos;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                startNanos = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED && startNanos != 0) {
+                    timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        });
+    }
+
+    public Timer.Sample startBooking() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * Stop a booking sample with its outcome: created, conflict or error
+     */
+    public void stopBooking(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder("interview.booking")
+                .description("Time spent in the booking service method")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    /**
+     * Count a conflict check and whether it found conflicts
+     */
+    public void recordConflictCheck(String operation, String source, boolean hasConflict) {
+        registry.counter("interview.conflict.checks",
+                "operation", operation,
+                "source", source,
+                "result", hasConflict ? "conflict" : "clear").increment();
+    }
+
+    public <T> T recordSuggestions(Supplier<T> work) {
+        return Timer.builder("interview.suggestions")
+                .description("Time spent generating suggested free slots")
+                .register(registry)
+                .record(work);
+    }
+
+    public <T> T recordSlotSearch(Supplier<T> work) {
+        return Timer.builder("interview.slot.search")
+                .description("Time spent finding common free slots of several participants")
+                .register(registry)
+                .record(work);
+    }
+
+    public <T> T recordAutoSchedule(Supplier<T> work) {
+        return Timer.builder("interview.auto_schedule")
+                .description("Time spent computing an automatic assignment of candidates to interviewers")
+                .register(registry)
+                .record(work);
+    }
+
+    public void recordListingRows(String listing, int rows) {
+        DistributionSummary.builder("interview.listing.rows")
+                .description("Rows returned per listing request")
+                .tag("listing", listing)
+                .register(registry)
+                .record(rows);
+    }
+
+    /**
+     * Record one committed import chunk: its duration and how many records it imported and rejected
+     */
+    public void recordImportChunk(int imported, int rejected, long durationNanos) {
+        Timer.builder("interview.import.chunk")
+                .description("Time spent parsing, checking and committing one import chunk")
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        registry.counter("interview.import.records", "result", "imported").increment(imported);
+        registry.counter("interview.import.records", "result", "rejected").increment(rejected);
+    }
+
+    /**
+     * Record one committed archive chunk: its duration and how many interviews it moved
+     */
+    public void recordArchiveChunk(int archived, long durationNanos) {
+        Timer.builder("interview.archive.chunk")
+                .description("Time spent moving one chunk of expired interviews to the archive")
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        registry.counter("interview.archive.records").increment(archived);
+    }
+
+    /**
+     * Record how many bookings a pipeline partition committed together
+     */
+    public void recordPipelineGroup(int bookings) {
+        DistributionSummary.builder("interview.pipeline.group.size")
+                .description("Bookings checked and committed together by a pipeline partition")
+                .register(registry)
+                .record(bookings);
+    }
+
+    public void monitorBookingPipeline(BookingPipeline<?, ?> pipeline) {
+        Gauge.builder("interview.pipeline.queued", pipeline, BookingPipeline::getQueued)
+                .description("Bookings waiting in pipeline partitions or being committed")
+                .register(registry);
+    }
+
+    /**
+     * Count a request made with an Idempotency-Key and whether it was answered with a stored response
+     */
+    public void recordIdempotentRequest(boolean replayed) {
+        registry.counter("interview.idempotency.requests", "result", replayed ? "replayed" : "booked").increment();
+    }
+
+    /**
+     * Count outbox events numbered by this instance's relay
+     */
+    public void recordOutboxRelayed(int events) {
+        registry.counter("interview.outbox.relayed").increment(events);
+    }
+
+    /**
+     * Count a stream subscriber closed because it fell too far behind
+     */
+    public void recordStreamOverflow() {
+        registry.counter("interview.stream.overflows").increment();
+    }
+
+    public void monitorStream(InterviewStream stream) {
+        Gauge.builder("interview.stream.subscribers", stream, InterviewStream::getSubscriberCount)
+                .description("Open server-sent event subscriptions to interview changes")
+                .register(registry);
+    }
+
+    /**
+     * Bind counters for calls that ran and calls that shared an in-flight result,
+     * so the coalescing ratio is shared / (executed + shared)
+     */
+    public void monitorSingleFlight(String flight, SingleFlight<?, ?> singleFlight) {
+        FunctionCounter.builder("interview.coalesced.calls", singleFlight, SingleFlight::getExecuted)
+                .description("Calls that ran the work themselves or shared an in-flight result")
+                .tag("flight", flight)
+                .tag("result", "executed")
+                .register(registry);
+        FunctionCounter.builder("interview.coalesced.calls", singleFlight, SingleFlight::getShared)
+                .description("Calls that ran the work themselves or shared an in-flight result")
+                .tag("flight", flight)
+                .tag("result", "shared")
+                .register(registry);
+        Gauge.builder("interview.coalesced.in_flight", singleFlight, SingleFlight::getInFlight)
+                .description("Distinct calls currently in flight")
+                .tag("flight", flight)
+                .register(registry);
+    }
+    
+    private Timer phaseTimer(String operation, String phase) {
+        return Timer.builder("interview.booking.phase")
+                .description("Time spent in each phase of a booking")
+                .tag("operation", operation)
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.interview.scheduler.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of interviews; nextCursor is null on the last page
+ */
+public class InterviewPage {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    private List<InterviewResponse> interviews;
+    private String nextCursor;
+
+    // Constructors
+    public InterviewPage() {
+    }
+
+    public InterviewPage(List<InterviewResponse> interviews, String nextCursor) {
+        this.interviews = interviews;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<InterviewResponse> getInterviews() {
+        return interviews;
+    }
+
+    public void setInterviews(List<InterviewResponse> interviews) {
+        this.interviews = interviews;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,206 @@
+package com.interview.scheduler.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.scheduler.dto.InterviewFileFormat;
+import com.interview.scheduler.dto.InterviewRequest;
+import com.interview.scheduler.exception.BadRequestException;
+import com.interview.scheduler.model.InterviewStatus;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads import records one at a time from an NDJSON or CSV stream.
+ *
+ * Only the current record is held in memory. CSV files need a header row naming
+ * the columns; the column names and the NDJSON fields match the export, so an
+ * export can be imported again. id, createdAt and updatedAt are ignored and
+ * status defaults to PENDING.
+ */
+public class InterviewRecordReader implements Closeable {
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of(
+        "candidateName", "candidateEmail", "interviewerName", "interviewerEmail",
+        "startTime", "endTime", "position");
+
+    private final InterviewFileFormat format;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+
+    private Map<String, Integer> csvColumns;
+    private int recordNumber;
+
+    public InterviewRecordReader(InterviewFileFormat format, InputStream in, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * The next record, or null at the end of the stream
+     */
+    public ImportRecord next() throws IOException {
+        return format == InterviewFileFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportRecord nextNdjson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        int number = ++recordNumber;
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (!node.isObject()) {
+                return ImportRecord.failed(number, "Record is not a JSON object");
+            }
+            InterviewRequest request = objectMapper.treeToValue(node, InterviewRequest.class);
+            JsonNode status = node.get("status");
+            return ImportRecord.parsed(number, request,
+                parseStatus(status == null || status.isNull() ? null : status.asText()));
+        } catch (JsonProcessingException e) {
+            return ImportRecord.failed(number, "Malformed JSON: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return ImportRecord.failed(number, e.getMessage());
+        }
+    }
+
+    private ImportRecord nextCsv() throws IOException {
+        if (csvColumns == null) {
+            readCsvHeader();
+        }
+        List<String> fields;
+        do {
+            fields = readCsvFields();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        int number = ++recordNumber;
+        try {
+            InterviewRequest request = new InterviewRequest(
+                csvValue(fields, "candidateName"),
+                csvValue(fields, "candidateEmail"),
+                csvValue(fields, "interviewerName"),
+                csvValue(fields, "interviewerEmail"),
+                parseTime(csvValue(fields, "startTime"), "startTime"),
+                parseTime(csvValue(fields, "endTime"), "endTime"),
+                csvValue(fields, "position"),
+                csvValue(fields, "notes"));
+            return ImportRecord.parsed(number, request, parseStatus(csvValue(fields, "status")));
+        } catch (IllegalArgumentException e) {
+            return ImportRecord.failed(number, e.getMessage());
+        }
+    }
+
+    private void readCsvHeader() throws IOException {
+        List<String> header = readCsvFields();
+        if (header == null) {
+            throw new BadRequestException("CSV import is empty, expected a header row");
+        }
+        csvColumns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            csvColumns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_CSV_COLUMNS) {
+            if (!csvColumns.containsKey(column.toLowerCase(Locale.ROOT))) {
+                throw new BadRequestException("CSV header is missing column " + column);
+            }
+        }
+    }
+
+    /**
+     * Read one RFC 4180 record; quoted fields may contain separators, quotes and line breaks
+     */
+    private List<String> readCsvFields() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String csvValue(List<String> fields, String column) {
+        Integer index = csvColumns.get(column.toLowerCase(Locale.ROOT));
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private static LocalDateTime parseTime(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static InterviewStatus parseStatus(String value) {
+        if (value == null || value.isBlank()) {
+            return InterviewStatus.PENDING;
+        }
+        try {
+            return InterviewStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + value);
+        }
+    }
+}
@@ -1,99 +1,313 @@
 package com.interview.scheduler.repository;
 
+import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.dto.ListingVersion;
 import com.interview.scheduler.model.Interview;
 import com.interview.scheduler.model.InterviewStatus;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InterviewRepository extends JpaRepository<Interview, Long> {
     
     /**
-     * Find conflicting interviews for an interviewer with pessimistic locking
-     * Used during actual booking to prevent race conditions
+     * Read-only listings select straight into InterviewResponse. Constructor results are
+     * not entities, so Hibernate keeps no snapshots and nothing is mapped a second time.
+     */
+    String RESPONSE_PROJECTION =
+            "SELECT new com.interview.scheduler.dto.InterviewResponse(" +
+            "i.id, i.candidateName, i.candidateEmail, i.interviewerName, i.interviewerEmail, " +
+            "i.startTime, i.endTime, i.status, i.notes, i.position, i.createdAt, i.updatedAt, i.version, i.panelId) " +
+            "FROM Interview i ";
+    
+    /**
+     * Aggregates behind a listing's ETag; one pass over the same rows the listing reads
+     */
+    String LISTING_VERSION =
+            "SELECT new com.interview.scheduler.dto.ListingVersion(" +
+            "COUNT(i), MAX(i.updatedAt), SUM(i.version)) " +
+            "FROM Interview i ";
+    
+    /**
+     * Non-cancelled rows overlapping [:startTime, :endTime), the condition every branch
+     * of a conflict lookup shares
+     */
+    String ACTIVE_OVERLAP =
+            "j.status != 'CANCELLED' AND j.startTime < :endTime AND j.endTime > :startTime";
+    
+    /**
+     * Ids of the rows conflicting with either participant, one branch per index.
+     * Databases do not use two indexes for an OR across columns (H2 falls back to
+     * the start time index and scans everything before the slot), so each role gets
+     * a query of its own and the outer lookup goes by primary key.
+     *
+     * Rows written by instances older than the participants table carry no participant
+     * ids until the participant migration links them, so the last two branches match
+     * unlinked rows by their normalized emails. Once every row is linked their IS NULL
+     * probes hit no rows of the id indexes and cost next to nothing.
+     */
+    String CONFLICTING_IDS =
+            "SELECT j.id FROM Interview j WHERE j.interviewerId = :interviewerId AND " + ACTIVE_OVERLAP +
+            " UNION ALL " +
+            "SELECT j.id FROM Interview j WHERE j.candidateId = :candidateId AND " + ACTIVE_OVERLAP +
+            " UNION ALL " +
+            "SELECT j.id FROM Interview j WHERE j.interviewerId IS NULL AND " +
+            "LOWER(TRIM(j.interviewerEmail)) = :interviewerEmail AND " + ACTIVE_OVERLAP +
+            " UNION ALL " +
+            "SELECT j.id FROM Interview j WHERE j.candidateId IS NULL AND " +
+            "LOWER(TRIM(j.candidateEmail)) = :candidateEmail AND " + ACTIVE_OVERLAP;
+    
+    /**
+     * Like {@link #CONFLICTING_IDS}, for any of several participants
+     */
+    String CONFLICTING_IDS_ANY =
+            "SELECT j.id FROM Interview j WHERE j.interviewerId IN :interviewerIds AND " + ACTIVE_OVERLAP +
+            " UNION ALL " +
+            "SELECT j.id FROM Interview j WHERE j.candidateId IN :candidateIds AND " + ACTIVE_OVERLAP +
+            " UNION ALL " +
+            "SELECT j.id FROM Interview j WHERE j.interviewerId IS NULL AND " +
+            "LOWER(TRIM(j.interviewerEmail)) IN :interviewerEmails AND " + ACTIVE_OVERLAP +
+            " UNION ALL " +
+            "SELECT j.id FROM Interview j WHERE j.candidateId IS NULL AND " +
+            "LOWER(TRIM(j.candidateEmail)) IN :candidateEmails AND " + ACTIVE_OVERLAP;
+    
+    /**
+     * Find interviews conflicting with either participant with pessimistic locking
+     * Used during actual booking to prevent race conditions. The status is checked
+     * again on the locked row, so one cancelled while we waited for it is left out.
      */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT i FROM Interview i WHERE " +
-           "i.interviewerEmail = :interviewerEmail AND " +
-           "i.status != 'CANCELLED' AND " +
-           "((i.startTime < :endTime AND i.endTime > :startTime))")
-    List<Interview> findInterviewerConflictsWithLock(
+    @Query("SELECT i FROM Interview i WHERE i.id IN (" + CONFLICTING_IDS + ") AND i.status != 'CANCELLED'")
+    List<Interview> findConflictsWithLock(
+            @Param("interviewerId") Long interviewerId,
+            @Param("candidateId") Long candidateId,
             @Param("interviewerEmail") String interviewerEmail,
+            @Param("candidateEmail") String candidateEmail,
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime
     );
     
     /**
-     * Find conflicting interviews for a candidate with pessimistic locking
-     * Used during actual booking to prevent race conditions
+     * Find interviews conflicting with either participant WITHOUT locking
+     * Used for read-only conflict checking
      */
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT i FROM Interview i WHERE " +
-           "i.candidateEmail = :candidateEmail AND " +
-           "i.status != 'CANCELLED' AND " +
-           "((i.startTime < :endTime AND i.endTime > :startTime))")
-    List<Interview> findCandidateConflictsWithLock(
+    @Query("SELECT i FROM Interview i WHERE i.id IN (" + CONFLICTING_IDS + ")")
+    List<Interview> findConflicts(
+            @Param("interviewerId") Long interviewerId,
+            @Param("candidateId") Long candidateId,
+            @Param("interviewerEmail") String interviewerEmail,
             @Param("candidateEmail") String candidateEmail,
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime
     );
     
     /**
-     * Find conflicting interviews for an interviewer WITHOUT locking
-     * Used for read-only conflict checking
+     * Find non-cancelled interviews overlapping a time range for any of the given participants
+     * with pessimistic locking. Rows are locked in id order to avoid deadlocks between batches.
      */
-    @Query("SELECT i FROM Interview i WHERE " +
-           "i.interviewerEmail = :interviewerEmail AND " +
-           "i.status != 'CANCELLED' AND " +
-           "((i.startTime < :endTime AND i.endTime > :startTime))")
-    List<Interview> findInterviewerConflicts(
-            @Param("interviewerEmail") String interviewerEmail,
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Interview i WHERE i.id IN (" + CONFLICTING_IDS_ANY + ") AND i.status != 'CANCELLED' " +
+           "ORDER BY i.id")
+    List<Interview> findParticipantConflictsWithLock(
+            @Param("interviewerIds") Collection<Long> interviewerIds,
+            @Param("candidateIds") Collection<Long> candidateIds,
+            @Param("interviewerEmails") Collection<String> interviewerEmails,
+            @Param("candidateEmails") Collection<String> candidateEmails,
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime
     );
     
     /**
-     * Find conflicting interviews for a candidate WITHOUT locking
-     * Used for read-only conflict checking
+     * Find non-cancelled interviews overlapping a time range for any of the given participants
+     * WITHOUT locking
      */
-    @Query("SELECT i FROM Interview i WHERE " +
-           "i.candidateEmail = :candidateEmail AND " +
-           "i.status != 'CANCELLED' AND " +
-           "((i.startTime < :endTime AND i.endTime > :startTime))")
-    List<Interview> findCandidateConflicts(
-            @Param("candidateEmail") String candidateEmail,
+    @Query("SELECT i FROM Interview i WHERE i.id IN (" + CONFLICTING_IDS_ANY + ")")
+    List<Interview> findParticipantConflicts(
+            @Param("interviewerIds") Collection<Long> interviewerIds,
+            @Param("candidateIds") Collection<Long> candidateIds,
+            @Param("interviewerEmails") Collection<String> interviewerEmails,
+            @Param("candidateEmails") Collection<String> candidateEmails,
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime
     );
     
+    /**
+     * Find non-cancelled interviews of one interviewer overlapping a time range,
+     * matching unlinked rows by email like the conflict lookups
+     */
+    @Query("SELECT i FROM Interview i WHERE i.id IN (" +
+           "SELECT j.id FROM Interview j WHERE j.interviewerId = :interviewerId AND " + ACTIVE_OVERLAP +
+           " UNION ALL " +
+           "SELECT j.id FROM Interview j WHERE j.interviewerId IS NULL AND " +
+           "LOWER(TRIM(j.interviewerEmail)) = :interviewerEmail AND " + ACTIVE_OVERLAP + ")")
+    List<Interview> findInterviewerInterviews(
+            @Param("interviewerId") Long interviewerId,
+            @Param("interviewerEmail") String interviewerEmail,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime
+    );
+    
+    /**
+     * Set the status of an interview that is still at the given version and bump the
+     * version. Returns 0 when the interview has changed since, so the caller can fail
+     * without a second round trip. Interviews already loaded are detached.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Interview i SET i.status = :status, i.updatedAt = :updatedAt, i.version = i.version + 1 " +
+           "WHERE i.id = :id AND i.version = :version")
+    int updateStatusAtVersion(
+            @Param("id") Long id,
+            @Param("version") Long version,
+            @Param("status") InterviewStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+    
+    /**
+     * Find one interview as a response, without loading a managed entity
+     */
+    @Query(RESPONSE_PROJECTION + "WHERE i.id = :id")
+    Optional<InterviewResponse> findResponseById(@Param("id") Long id);
+    
+    /**
+     * Version of all interviews
+     */
+    @Query(LISTING_VERSION)
+    ListingVersion findListingVersion();
+    
+    /**
+     * Version of the interviews of one interviewer
+     */
+    @Query(LISTING_VERSION + "WHERE i.interviewerId = :interviewerId")
+    ListingVersion findInterviewerListingVersion(@Param("interviewerId") Long interviewerId);
+    
+    /**
+     * Version of the interviews of one candidate
+     */
+    @Query(LISTING_VERSION + "WHERE i.candidateId = :candidateId")
+    ListingVersion findCandidateListingVersion(@Param("candidateId") Long candidateId);
+    
+    /**
+     * All interviews of one panel, one per interviewer
+     */
+    @Query(RESPONSE_PROJECTION + "WHERE i.panelId = :panelId ORDER BY i.id")
+    List<InterviewResponse> findPanel(@Param("panelId") Long panelId);
+    
+    /**
+     * Interviews of one panel not in the given status
+     */
+    List<Interview> findByPanelIdAndStatusNot(Long panelId, InterviewStatus status);
+    
     /**
      * Find all interviews by status
      */
     List<Interview> findByStatus(InterviewStatus status);
     
     /**
-     * Find all interviews for a specific interviewer
+     * Find all interviews not in the given status
      */
-    List<Interview> findByInterviewerEmailOrderByStartTimeDesc(String interviewerEmail);
+    List<Interview> findByStatusNot(InterviewStatus status);
     
     /**
-     * Find all interviews for a specific candidate
+     * First page of all interviews in (startTime, id) order
      */
-    List<Interview> findByCandidateEmailOrderByStartTimeDesc(String candidateEmail);
+    @Query(RESPONSE_PROJECTION +
+           "ORDER BY i.startTime ASC, i.id ASC")
+    List<InterviewResponse> findFirstPage(Pageable pageable);
     
     /**
-     * Find upcoming interviews (status not cancelled and start time in future)
+     * Page of all interviews after the given (startTime, id) position
      */
-    @Query("SELECT i FROM Interview i WHERE " +
+    @Query(RESPONSE_PROJECTION + "WHERE " +
+           "i.startTime > :startTime OR (i.startTime = :startTime AND i.id > :id) " +
+           "ORDER BY i.startTime ASC, i.id ASC")
+    List<InterviewResponse> findPageAfter(
+            @Param("startTime") LocalDateTime startTime,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+    
+    /**
+     * First page of interviews for a specific interviewer, most recent first
+     */
+    @Query(RESPONSE_PROJECTION + "WHERE " +
+           "i.interviewerId = :interviewerId " +
+           "ORDER BY i.startTime DESC, i.id DESC")
+    List<InterviewResponse> findInterviewerFirstPage(
+            @Param("interviewerId") Long interviewerId,
+            Pageable pageable
+    );
+    
+    /**
+     * Page of interviews for a specific interviewer before the given (startTime, id) position
+     */
+    @Query(RESPONSE_PROJECTION + "WHERE " +
+           "i.interviewerId = :interviewerId AND " +
+           "(i.startTime < :startTime OR (i.startTime = :startTime AND i.id < :id)) " +
+           "ORDER BY i.startTime DESC, i.id DESC")
+    List<InterviewResponse> findInterviewerPageBefore(
+            @Param("interviewerId") Long interviewerId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+    
+    /**
+     * First page of interviews for a specific candidate, most recent first
+     */
+    @Query(RESPONSE_PROJECTION + "WHERE " +
+           "i.candidateId = :candidateId " +
+           "ORDER BY i.startTime DESC, i.id DESC")
+    List<InterviewResponse> findCandidateFirstPage(
+            @Param("candidateId") Long candidateId,
+            Pageable pageable
+    );
+    
+    /**
+     * Page of interviews for a specific candidate before the given (startTime, id) position
+     */
+    @Query(RESPONSE_PROJECTION + "WHERE " +
+           "i.candidateId = :candidateId AND " +
+           "(i.startTime < :startTime OR (i.startTime = :startTime AND i.id < :id)) " +
+           "ORDER BY i.startTime DESC, i.id DESC")
+    List<InterviewResponse> findCandidatePageBefore(
+            @Param("candidateId") Long candidateId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+    
+    /**
+     * First page of upcoming interviews (status not cancelled and start time in future)
+     */
+    @Query(RESPONSE_PROJECTION + "WHERE " +
            "i.status != 'CANCELLED' AND " +
            "i.startTime > :currentTime " +
-           "ORDER BY i.startTime ASC")
-    List<Interview> findUpcomingInterviews(@Param("currentTime") LocalDateTime currentTime);
+           "ORDER BY i.startTime ASC, i.id ASC")
+    List<InterviewResponse> findUpcomingInterviews(@Param("currentTime") LocalDateTime currentTime, Pageable pageable);
+    
+    /**
+     * Page of upcoming interviews after the given (startTime, id) position
+     */
+    @Query(RESPONSE_PROJECTION + "WHERE " +
+           "i.status != 'CANCELLED' AND " +
+           "i.startTime > :currentTime AND " +
+           "(i.startTime > :startTime OR (i.startTime = :startTime AND i.id > :id)) " +
+           "ORDER BY i.startTime ASC, i.id ASC")
+    List<InterviewResponse> findUpcomingPageAfter(
+            @Param("currentTime") LocalDateTime currentTime,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 }
\ No newline at end of file
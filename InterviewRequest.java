@@ -1,12 +1,16 @@
 package com.interview.scheduler.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class InterviewRequest {
     
+    public static final int MAX_PANEL_SIZE = 10;
+    
     @NotBlank(message = "Candidate name is required")
     @Size(min = 2, max = 100, message = "Candidate name must be between 2 and 100 characters")
     private String candidateName;
@@ -38,6 +42,11 @@ public class InterviewRequest {
     @Size(max = 500, message = "Notes cannot exceed 500 characters")
     private String notes;
     
+    // Further interviewers for a panel interview, besides the primary interviewer above
+    @Valid
+    @Size(max = MAX_PANEL_SIZE - 1, message = "A panel can have at most " + MAX_PANEL_SIZE + " interviewers")
+    private List<PanelInterviewer> panelInterviewers;
+    
     // Constructors
     public InterviewRequest() {
     }
@@ -120,6 +129,14 @@ public class InterviewRequest {
         this.notes = notes;
     }
     
+    public List<PanelInterviewer> getPanelInterviewers() {
+        return panelInterviewers;
+    }
+    
+    public void setPanelInterviewers(List<PanelInterviewer> panelInterviewers) {
+        this.panelInterviewers = panelInterviewers;
+    }
+    
     // Validation method
     @AssertTrue(message = "End time must be after start time")
     public boolean isEndTimeAfterStartTime() {
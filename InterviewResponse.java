@@ -1,6 +1,8 @@
 package com.interview.scheduler.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.interview.scheduler.model.InterviewStatus;
 
 import java.time.LocalDateTime;
@@ -29,6 +31,13 @@ public class InterviewResponse {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime updatedAt;
     
+    // Sent as the ETag header rather than in the body
+    @JsonIgnore
+    private Long version;
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long panelId;
+    
     // Constructors
     public InterviewResponse() {
     }
@@ -37,7 +46,8 @@ public class InterviewResponse {
                             String interviewerName, String interviewerEmail, 
                             LocalDateTime startTime, LocalDateTime endTime, 
                             InterviewStatus status, String notes, String position,
-                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+                            LocalDateTime createdAt, LocalDateTime updatedAt, Long version,
+                            Long panelId) {
         this.id = id;
         this.candidateName = candidateName;
         this.candidateEmail = candidateEmail;
@@ -50,6 +60,8 @@ public class InterviewResponse {
         this.position = position;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
+        this.panelId = panelId;
     }
     
     // Getters and Setters
@@ -148,4 +160,20 @@ public class InterviewResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public Long getPanelId() {
+        return panelId;
+    }
+    
+    public void setPanelId(Long panelId) {
+        this.panelId = panelId;
+    }
 }
\ No newline at end of file
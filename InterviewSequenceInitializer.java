@@ -0,0 +1,43 @@
+package com.interview.scheduler.config;
+
+import com.interview.scheduler.model.Interview;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the interview id sequence past existing rows.
+ *
+ * Tables created while ids were IDENTITY columns already hold ids the new
+ * sequence would hand out again. Runs once all beans (and so the schema) are
+ * ready, before the web server accepts requests.
+ */
+@Component
+public class InterviewSequenceInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(InterviewSequenceInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public InterviewSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM interviews", Long.class);
+        if (maxId == null) {
+            return;
+        }
+        // Costs one block of ids, which is harmless
+        Long next = jdbcTemplate.queryForObject("SELECT nextval('" + Interview.ID_SEQUENCE + "')", Long.class);
+        if (next <= maxId) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + Interview.ID_SEQUENCE + " RESTART WITH " + (maxId + 1));
+            log.info("Interview id sequence moved past existing id {}", maxId);
+        }
+    }
+}
@@ -1,28 +1,75 @@
 package com.interview.scheduler.service;
 
+import com.interview.scheduler.dto.BatchInterviewRequest;
+import com.interview.scheduler.dto.BatchInterviewResponse;
 import com.interview.scheduler.dto.ConflictResponse;
+import com.interview.scheduler.dto.FreeBusyResponse;
+import com.interview.scheduler.dto.IdempotentBooking;
+import com.interview.scheduler.dto.ImportResponse;
+import com.interview.scheduler.dto.InterviewFileFormat;
+import com.interview.scheduler.dto.InterviewPage;
 import com.interview.scheduler.dto.InterviewRequest;
 import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.dto.ListingVersion;
+import com.interview.scheduler.dto.PageCursor;
+import com.interview.scheduler.dto.SlotSearchRequest;
+import com.interview.scheduler.dto.SlotSearchResponse;
 import com.interview.scheduler.model.InterviewStatus;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 public interface InterviewService {
     
     /**
-     * Schedule a new interview with conflict detection
+     * Schedule a new interview with conflict detection. A request with panel
+     * interviewers books one interview per interviewer, atomically.
      */
     InterviewResponse scheduleInterview(InterviewRequest request);
     
+    /**
+     * Schedule a new interview at most once per idempotency key. Repeating the
+     * request with the same key returns the first booking's response again.
+     */
+    IdempotentBooking scheduleInterview(InterviewRequest request, String idempotencyKey);
+    
+    /**
+     * Schedule many interviews in one transaction, detecting conflicts
+     * against existing bookings and within the batch itself
+     */
+    BatchInterviewResponse scheduleInterviews(BatchInterviewRequest batchRequest);
+    
     /**
      * Check for conflicts without scheduling
      */
     ConflictResponse checkConflicts(InterviewRequest request);
     
     /**
-     * Get all interviews
+     * Check for conflicts, suggesting up to suggestionCount free slots within the
+     * given horizon of the requested start. Null arguments fall back to the defaults.
+     */
+    ConflictResponse checkConflicts(InterviewRequest request, Integer suggestionCount, Duration horizon);
+    
+    /**
+     * Find the earliest windows in which all the given participants are free
      */
-    List<InterviewResponse> getAllInterviews();
+    SlotSearchResponse findSlots(SlotSearchRequest request);
+    
+    /**
+     * Get a page of all interviews ordered by start time
+     */
+    InterviewPage getAllInterviews(PageCursor after, int limit);
+    
+    /**
+     * Get the version of the listing of all interviews
+     */
+    ListingVersion getAllInterviewsVersion();
     
     /**
      * Get interview by ID
@@ -30,9 +77,15 @@ public interface InterviewService {
     InterviewResponse getInterviewById(Long id);
     
     /**
-     * Update interview status
+     * Get the interviews of a panel, one per interviewer
+     */
+    List<InterviewResponse> getPanel(Long panelId);
+    
+    /**
+     * Update interview status. When acceptedVersions is not null the update only
+     * succeeds if the interview is still at one of those versions.
      */
-    InterviewResponse updateInterviewStatus(Long id, InterviewStatus status);
+    InterviewResponse updateInterviewStatus(Long id, InterviewStatus status, Set<Long> acceptedVersions);
     
     /**
      * Cancel an interview
@@ -40,17 +93,50 @@ public interface InterviewService {
     InterviewResponse cancelInterview(Long id);
     
     /**
-     * Get upcoming interviews
+     * Get a page of upcoming interviews ordered by start time, limited to those
+     * starting within the given window from now when it is not null
+     */
+    InterviewPage getUpcomingInterviews(PageCursor after, Duration within, int limit);
+    
+    /**
+     * Get a page of interviews by interviewer email, most recent first
+     */
+    InterviewPage getInterviewsByInterviewer(String interviewerEmail, PageCursor after, int limit);
+    
+    /**
+     * Get the version of an interviewer's listing
+     */
+    ListingVersion getInterviewerListingVersion(String interviewerEmail);
+    
+    /**
+     * Get an interviewer's busy bitsets for each day in [from, to]
+     */
+    FreeBusyResponse getInterviewerFreeBusy(String interviewerEmail, LocalDate from, LocalDate to);
+    
+    /**
+     * Get the union of several interviewers' busy bitsets for each day in [from, to]
+     */
+    FreeBusyResponse getCombinedFreeBusy(List<String> interviewerEmails, LocalDate from, LocalDate to);
+    
+    /**
+     * Get a page of interviews by candidate email, most recent first
+     */
+    InterviewPage getInterviewsByCandidate(String candidateEmail, PageCursor after, int limit);
+    
+    /**
+     * Get the version of a candidate's listing
      */
-    List<InterviewResponse> getUpcomingInterviews();
+    ListingVersion getCandidateListingVersion(String candidateEmail);
     
     /**
-     * Get interviews by interviewer email
+     * Write every interview starting in [from, to) to the output, one row at a time.
+     * Either bound may be null.
      */
-    List<InterviewResponse> getInterviewsByInterviewer(String interviewerEmail);
+    void exportInterviews(InterviewFileFormat format, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException;
     
     /**
-     * Get interviews by candidate email
+     * Import interviews from an NDJSON or CSV stream in independently committed chunks,
+     * rejecting invalid and conflicting records instead of failing the import
      */
-    List<InterviewResponse> getInterviewsByCandidate(String candidateEmail);
+    ImportResponse importInterviews(InterviewFileFormat format, InputStream in) throws IOException;
 }
\ No newline at end of file
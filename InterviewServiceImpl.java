@@ -1,23 +1,112 @@
 package com.interview.scheduler.service.impl;
 
+import com.interview.scheduler.config.BookingMode;
+import com.interview.scheduler.dto.BatchInterviewRequest;
+import com.interview.scheduler.dto.BatchInterviewResponse;
+import com.interview.scheduler.dto.BatchItemResult;
+import com.interview.scheduler.dto.BatchItemStatus;
+import com.interview.scheduler.dto.BatchMode;
 import com.interview.scheduler.dto.ConflictResponse;
+import com.interview.scheduler.dto.FreeBusyDay;
+import com.interview.scheduler.dto.FreeBusyResponse;
+import com.interview.scheduler.dto.FreeSlot;
+import com.interview.scheduler.dto.ImportChunkResult;
+import com.interview.scheduler.dto.ImportRejection;
+import com.interview.scheduler.dto.IdempotentBooking;
+import com.interview.scheduler.dto.ImportResponse;
+import com.interview.scheduler.dto.InterviewFileFormat;
+import com.interview.scheduler.dto.InterviewPage;
 import com.interview.scheduler.dto.InterviewRequest;
 import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.dto.ListingVersion;
+import com.interview.scheduler.dto.PanelInterviewer;
+import com.interview.scheduler.dto.PageCursor;
+import com.interview.scheduler.dto.SlotSearchRequest;
+import com.interview.scheduler.dto.SlotSearchResponse;
+import com.interview.scheduler.event.InterviewChangedEvent;
+import com.interview.scheduler.event.InterviewChangedEvent.Change;
+import com.interview.scheduler.exception.BadRequestException;
 import com.interview.scheduler.exception.ConflictException;
+import com.interview.scheduler.exception.PreconditionFailedException;
 import com.interview.scheduler.exception.ResourceNotFoundException;
+import com.interview.scheduler.mapper.InterviewMapper;
+import com.interview.scheduler.metrics.InterviewMetrics;
 import com.interview.scheduler.model.Interview;
 import com.interview.scheduler.model.InterviewStatus;
+import com.interview.scheduler.model.Participant;
+import com.interview.scheduler.model.ParticipantRole;
+import com.interview.scheduler.repository.ArchivedInterviewRepository;
+import com.interview.scheduler.repository.InterviewBatchRepository;
+import com.interview.scheduler.repository.InterviewExportRepository;
 import com.interview.scheduler.repository.InterviewRepository;
+import com.interview.scheduler.repository.SlotClaimRepository;
 import com.interview.scheduler.service.InterviewService;
+import com.interview.scheduler.service.archive.InterviewArchive;
+import com.interview.scheduler.service.availability.FreeBusyCalendar;
+import com.interview.scheduler.service.availability.FreeSlotFinder;
+import com.interview.scheduler.service.availability.ParticipantBusyLookup;
+import com.interview.scheduler.service.availability.TimeWindow;
+import com.interview.scheduler.service.availability.WorkingHours;
+import com.interview.scheduler.service.cache.InterviewCache;
+import com.interview.scheduler.service.coalesce.SingleFlight;
+import com.interview.scheduler.service.idempotency.IdempotencyKeys;
+import com.interview.scheduler.service.importer.ImportRecord;
+import com.interview.scheduler.service.importer.InterviewRecordReader;
+import com.interview.scheduler.service.index.InterviewConflictIndex;
+import com.interview.scheduler.service.index.ParticipantSchedule;
+import com.interview.scheduler.service.index.UpcomingInterviewIndex;
+import com.interview.scheduler.service.participant.ParticipantDirectory;
+import com.interview.scheduler.service.pipeline.BookingPipeline;
+import com.interview.scheduler.service.pipeline.BookingPipeline.Submission;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,21 +114,156 @@ public class InterviewServiceImpl implements InterviewService {
     
     private static final Logger log = LoggerFactory.getLogger(InterviewServiceImpl.class);
     
+    private static final Comparator<InterviewResponse> BY_START = Comparator
+            .comparing(InterviewResponse::getStartTime)
+            .thenComparing(InterviewResponse::getId);
+    
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final Duration MAX_SUGGESTION_HORIZON = Duration.ofDays(90);
+    private static final int MAX_FREE_BUSY_DAYS = 62;
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+    private static final DateTimeFormatter EXPORT_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String CSV_HEADER = "id,candidateName,candidateEmail,interviewerName,interviewerEmail,"
+        + "startTime,endTime,status,position,notes,createdAt,updatedAt";
+    
     private final InterviewRepository interviewRepository;
+    private final ArchivedInterviewRepository archivedInterviewRepository;
+    private final InterviewBatchRepository interviewBatchRepository;
+    private final InterviewExportRepository interviewExportRepository;
+    private final SlotClaimRepository slotClaimRepository;
+    private final ParticipantDirectory participantDirectory;
+    private final InterviewConflictIndex conflictIndex;
+    private final UpcomingInterviewIndex upcomingIndex;
+    private final InterviewCache interviewCache;
+    private final InterviewArchive interviewArchive;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FreeSlotFinder freeSlotFinder;
+    private final ParticipantBusyLookup participantBusyLookup;
+    private final FreeBusyCalendar freeBusyCalendar;
+    private final IdempotencyKeys idempotencyKeys;
+    private final InterviewMetrics metrics;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingMode bookingMode;
+    private final int defaultSuggestionCount;
+    private final Duration defaultSuggestionHorizon;
+    private final int importChunkSize;
+    private final BookingPipeline<PipelinedBooking, InterviewResponse> bookingPipeline;
+    private final SingleFlight<ConflictCheckKey, ConflictResponse> conflictChecks = new SingleFlight<>();
     
     @Autowired
-    public InterviewServiceImpl(InterviewRepository interviewRepository) {
+    public InterviewServiceImpl(InterviewRepository interviewRepository,
+                                ArchivedInterviewRepository archivedInterviewRepository,
+                                InterviewBatchRepository interviewBatchRepository,
+                                InterviewExportRepository interviewExportRepository,
+                                SlotClaimRepository slotClaimRepository,
+                                ParticipantDirectory participantDirectory,
+                                InterviewConflictIndex conflictIndex,
+                                UpcomingInterviewIndex upcomingIndex,
+                                InterviewCache interviewCache,
+                                InterviewArchive interviewArchive,
+                                ApplicationEventPublisher eventPublisher,
+                                FreeSlotFinder freeSlotFinder,
+                                ParticipantBusyLookup participantBusyLookup,
+                                FreeBusyCalendar freeBusyCalendar,
+                                IdempotencyKeys idempotencyKeys,
+                                InterviewMetrics metrics,
+                                ObjectMapper objectMapper,
+                                Validator validator,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${interview.booking.mode:LOCKING}") BookingMode bookingMode,
+                                @Value("${interview.suggestions.count:3}") int defaultSuggestionCount,
+                                @Value("${interview.suggestions.horizon:P14D}") Duration defaultSuggestionHorizon,
+                                @Value("${interview.import.chunk-size:1000}") int importChunkSize,
+                                @Value("${interview.booking.pipeline.partitions:4}") int pipelinePartitions,
+                                @Value("${interview.booking.pipeline.max-group-size:128}") int pipelineMaxGroupSize,
+                                @Value("${interview.booking.pipeline.linger:2ms}") Duration pipelineLinger,
+                                @Value("${interview.booking.pipeline.capacity:10000}") int pipelineCapacity) {
+        if (importChunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be positive, got " + importChunkSize);
+        }
         this.interviewRepository = interviewRepository;
+        this.archivedInterviewRepository = archivedInterviewRepository;
+        this.interviewBatchRepository = interviewBatchRepository;
+        this.interviewExportRepository = interviewExportRepository;
+        this.slotClaimRepository = slotClaimRepository;
+        this.participantDirectory = participantDirectory;
+        this.conflictIndex = conflictIndex;
+        this.upcomingIndex = upcomingIndex;
+        this.interviewCache = interviewCache;
+        this.interviewArchive = interviewArchive;
+        this.eventPublisher = eventPublisher;
+        this.freeSlotFinder = freeSlotFinder;
+        this.participantBusyLookup = participantBusyLookup;
+        this.freeBusyCalendar = freeBusyCalendar;
+        this.idempotencyKeys = idempotencyKeys;
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bookingMode = bookingMode;
+        this.defaultSuggestionCount = defaultSuggestionCount;
+        this.defaultSuggestionHorizon = defaultSuggestionHorizon;
+        this.importChunkSize = importChunkSize;
+        metrics.monitorSingleFlight("conflict_check", conflictChecks);
+        if (bookingMode == BookingMode.PIPELINE) {
+            this.bookingPipeline = new BookingPipeline<>("booking-partition", pipelinePartitions, pipelineMaxGroupSize,
+                                                         pipelineLinger, pipelineCapacity, this::commitBookingGroup);
+            metrics.monitorBookingPipeline(bookingPipeline);
+        } else {
+            this.bookingPipeline = null;
+        }
     }
     
+    @PreDestroy
+    public void shutdown() {
+        if (bookingPipeline != null) {
+            bookingPipeline.shutdown();
+        }
+    }
+    
+    /**
+     * Runs in its own transaction, or joins the caller's. In pipeline mode the booking is
+     * committed by its interviewer's partition and this only waits for the result.
+     */
     @Override
-    @Transactional
     public InterviewResponse scheduleInterview(InterviewRequest request) {
-        log.info("Scheduling interview for candidate: {} with interviewer: {}", 
-                 request.getCandidateEmail(), request.getInterviewerEmail());
+        return scheduleInterview(request, (IdempotencyKeys.Claim) null);
+    }
+    
+    /**
+     * Book the interview, recording the idempotency key, if any, in the pipeline's
+     * transaction. Outside pipeline mode the key is recorded by the caller.
+     */
+    private InterviewResponse scheduleInterview(InterviewRequest request, IdempotencyKeys.Claim claim) {
+        List<String> interviewerEmails = interviewerEmails(request);
+        log.info("Scheduling interview for candidate: {} with interviewer(s): {}", 
+                 request.getCandidateEmail(), interviewerEmails);
+        String operation = interviewerEmails.size() > 1 ? "panel" : "single";
         
-        // Use locking version for actual booking to prevent race conditions
-        List<Interview> conflicts = findAllConflictsWithLock(request);
+        Timer.Sample sample = metrics.startBooking();
+        String outcome = "error";
+        try {
+            InterviewResponse response = bookingPipeline != null
+                ? bookingPipeline.submit(Participant.normalizeEmail(request.getInterviewerEmail()),
+                                         new PipelinedBooking(request, claim))
+                : transactionTemplate.execute(status -> bookInterview(request, interviewerEmails, operation));
+            outcome = "created";
+            return response;
+        } catch (ConflictException e) {
+            outcome = "conflict";
+            throw e;
+        } finally {
+            metrics.stopBooking(sample, operation, outcome);
+        }
+    }
+    
+    private InterviewResponse bookInterview(InterviewRequest request, List<String> interviewerEmails, String operation) {
+        // Slot claims guard against races themselves, so committed conflicts can be read without locks
+        List<Interview> conflicts = bookingMode.usesSlotClaims()
+            ? metrics.recordPhase(operation, InterviewMetrics.PHASE_CONFLICT_QUERY, () -> findAllConflicts(request))
+            : metrics.recordPhase(operation, InterviewMetrics.PHASE_CONFLICT_QUERY_LOCKED, () -> findAllConflictsWithLock(request));
         
         if (!conflicts.isEmpty()) {
             log.warn("Conflicts found for interview scheduling");
@@ -49,34 +273,376 @@ public class InterviewServiceImpl implements InterviewService {
             );
         }
         
-        Interview interview = new Interview();
-        interview.setCandidateName(request.getCandidateName());
-        interview.setCandidateEmail(request.getCandidateEmail());
-        interview.setInterviewerName(request.getInterviewerName());
-        interview.setInterviewerEmail(request.getInterviewerEmail());
-        interview.setStartTime(request.getStartTime());
-        interview.setEndTime(request.getEndTime());
-        interview.setPosition(request.getPosition());
-        interview.setNotes(request.getNotes());
-        interview.setStatus(InterviewStatus.PENDING);
+        if (interviewerEmails.size() > 1) {
+            Interview lead = schedulePanel(request, operation);
+            return InterviewMapper.toResponse(lead);
+        }
+        
+        Interview interview = buildInterview(request);
+        linkParticipants(List.of(interview));
         
-        Interview savedInterview = interviewRepository.save(interview);
+        Interview savedInterview = metrics.recordPhase(operation, InterviewMetrics.PHASE_INSERT,
+                                                       () -> interviewRepository.save(interview));
+        if (bookingMode.usesSlotClaims()) {
+            metrics.recordPhase(operation, InterviewMetrics.PHASE_SLOT_CLAIM,
+                                () -> claimSlots(List.of(savedInterview)));
+        }
+        eventPublisher.publishEvent(new InterviewChangedEvent(savedInterview, Change.SCHEDULED));
+        metrics.recordCommit(operation);
         log.info("Interview scheduled successfully with ID: {}", savedInterview.getId());
         
-        return convertToResponse(savedInterview);
+        return InterviewMapper.toResponse(savedInterview);
+    }
+    
+    @Override
+    public IdempotentBooking scheduleInterview(InterviewRequest request, String idempotencyKey) {
+        log.info("Scheduling interview with idempotency key: {}", idempotencyKey);
+        if (bookingPipeline != null) {
+            // The partition records the key in the transaction that commits the booking, so
+            // no connection or key row is held while this waits for it
+            return idempotencyKeys.executeRecordedByBooking(idempotencyKey, request,
+                                                            claim -> scheduleInterview(request, claim));
+        }
+        // Otherwise the booking joins the transaction that records the key
+        return idempotencyKeys.execute(idempotencyKey, request, () -> scheduleInterview(request));
+    }
+    
+    /**
+     * Insert one interview per panel interviewer in a single batch, sharing a panel id.
+     * Returns the primary interviewer's interview, whose id is the panel id.
+     */
+    private Interview schedulePanel(InterviewRequest request, String operation) {
+        List<Interview> panel = buildBooking(request);
+        linkParticipants(panel);
+        
+        metrics.recordPhase(operation, InterviewMetrics.PHASE_INSERT, () -> interviewBatchRepository.insertPanel(panel));
+        if (bookingMode.usesSlotClaims()) {
+            metrics.recordPhase(operation, InterviewMetrics.PHASE_SLOT_CLAIM, () -> claimSlots(panel));
+        }
+        panel.forEach(interview -> eventPublisher.publishEvent(new InterviewChangedEvent(interview, Change.SCHEDULED)));
+        metrics.recordCommit(operation);
+        log.info("Panel interview scheduled successfully with panel ID: {} and {} interviewers",
+                 panel.get(0).getPanelId(), panel.size());
+        return panel.get(0);
+    }
+    
+    /**
+     * Commit one partition's group of bookings in a single transaction. Each booking is
+     * checked against committed interviews and the bookings accepted before it in the
+     * group. If a slot claim still collides with a booking made elsewhere, the group is
+     * committed again one booking per transaction so only the colliding ones fail.
+     * Bookings rejected only because of group members that did not commit after all
+     * are checked again as a group of their own.
+     */
+    private void commitBookingGroup(List<Submission<PipelinedBooking, InterviewResponse>> group) {
+        metrics.recordPipelineGroup(group.size());
+        Map<String, ParticipantSchedule> interviewerSchedules = new HashMap<>();
+        Map<String, ParticipantSchedule> candidateSchedules = new HashMap<>();
+        List<Submission<PipelinedBooking, InterviewResponse>> accepted = new ArrayList<>();
+        List<List<Interview>> acceptedBookings = new ArrayList<>();
+        Map<Submission<PipelinedBooking, InterviewResponse>, List<Interview>> rejected = new LinkedHashMap<>();
+        
+        // Accepted bookings get negative ids until they are inserted, like batch items
+        long pendingId = 0;
+        for (Submission<PipelinedBooking, InterviewResponse> submission : group) {
+            InterviewRequest request = submission.getRequest().request();
+            List<Interview> booking = buildBooking(request);
+            
+            Map<Long, Interview> conflicts = new LinkedHashMap<>();
+            findBusy(request, request.getStartTime(), request.getEndTime())
+                .forEach(conflict -> conflicts.put(conflict.getId(), conflict));
+            for (Interview interview : booking) {
+                findOverlapping(interviewerSchedules, interview.getInterviewerEmail(), request)
+                    .forEach(conflict -> conflicts.putIfAbsent(conflict.getId(), conflict));
+            }
+            findOverlapping(candidateSchedules, request.getCandidateEmail(), request)
+                .forEach(conflict -> conflicts.putIfAbsent(conflict.getId(), conflict));
+            
+            if (!conflicts.isEmpty()) {
+                rejected.put(submission, new ArrayList<>(conflicts.values()));
+                continue;
+            }
+            for (Interview interview : booking) {
+                interview.setId(--pendingId);
+                addToSchedules(interview, interviewerSchedules, candidateSchedules);
+            }
+            accepted.add(submission);
+            acceptedBookings.add(booking);
+        }
+        
+        // Interviews of accepted bookings that did not commit, by identity since ids are reassigned
+        Set<Interview> uncommitted = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (!accepted.isEmpty()) {
+            try {
+                List<PipelinedBooking> requests = accepted.stream().map(Submission::getRequest).collect(Collectors.toList());
+                boolean[] committed = transactionTemplate.execute(status -> commitBookings(requests, acceptedBookings));
+                for (int i = 0; i < accepted.size(); i++) {
+                    answer(accepted.get(i), acceptedBookings.get(i), committed[i], uncommitted);
+                }
+            } catch (ConflictException e) {
+                log.warn("Group of {} bookings collided on slot claims, committing them one by one", accepted.size());
+                for (int i = 0; i < accepted.size(); i++) {
+                    List<PipelinedBooking> request = List.of(accepted.get(i).getRequest());
+                    List<List<Interview>> booking = List.of(acceptedBookings.get(i));
+                    try {
+                        boolean[] committed = transactionTemplate.execute(status -> commitBookings(request, booking));
+                        answer(accepted.get(i), booking.get(0), committed[0], uncommitted);
+                    } catch (RuntimeException bookingFailure) {
+                        accepted.get(i).fail(bookingFailure);
+                        uncommitted.addAll(booking.get(0));
+                    }
+                }
+            }
+        }
+        
+        // Answered last, so conflicts with bookings of this group carry their final ids
+        List<Submission<PipelinedBooking, InterviewResponse>> reconsidered = new ArrayList<>();
+        rejected.forEach((submission, conflicts) -> {
+            if (conflicts.stream().anyMatch(uncommitted::contains)) {
+                reconsidered.add(submission);
+            } else {
+                submission.fail(new ConflictException(
+                    "Interview slot conflicts detected. Please choose a different time.", conflicts));
+            }
+        });
+        if (!reconsidered.isEmpty()) {
+            // Smaller than this group, since at least one booking was accepted here
+            commitBookingGroup(reconsidered);
+        }
+    }
+    
+    /**
+     * Claim the idempotency keys of the bookings, then insert those whose key was free
+     * (or that have none) and store their responses on the keys. Returns which bookings
+     * were inserted. Runs in the caller's transaction.
+     */
+    private boolean[] commitBookings(List<PipelinedBooking> requests, List<List<Interview>> bookings) {
+        boolean[] committed = new boolean[requests.size()];
+        List<List<Interview>> claimed = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            IdempotencyKeys.Claim claim = requests.get(i).claim();
+            committed[i] = claim == null || idempotencyKeys.claim(claim);
+            if (committed[i]) {
+                claimed.add(bookings.get(i));
+            }
+        }
+        if (!claimed.isEmpty()) {
+            insertBookings(claimed);
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            IdempotencyKeys.Claim claim = requests.get(i).claim();
+            if (committed[i] && claim != null) {
+                idempotencyKeys.complete(claim, InterviewMapper.toResponse(bookings.get(i).get(0)));
+            }
+        }
+        return committed;
+    }
+    
+    private void answer(Submission<PipelinedBooking, InterviewResponse> submission, List<Interview> booking,
+                        boolean committed, Set<Interview> uncommitted) {
+        if (committed) {
+            submission.complete(InterviewMapper.toResponse(booking.get(0)));
+        } else {
+            // Its caller answers with the response stored on the key
+            submission.fail(submission.getRequest().claim().taken());
+            uncommitted.addAll(booking);
+        }
+    }
+    
+    /**
+     * Insert bookings of one or more interviews each in a single batch, claim their slots
+     * and announce them
+     */
+    private void insertBookings(List<List<Interview>> bookings) {
+        List<Interview> interviews = bookings.stream().flatMap(List::stream).collect(Collectors.toList());
+        linkParticipants(interviews);
+        metrics.recordPhase("pipeline", InterviewMetrics.PHASE_INSERT,
+                            () -> interviewBatchRepository.insertBookings(bookings));
+        metrics.recordPhase("pipeline", InterviewMetrics.PHASE_SLOT_CLAIM, () -> claimSlots(interviews));
+        interviews.forEach(interview -> eventPublisher.publishEvent(new InterviewChangedEvent(interview, Change.SCHEDULED)));
+        metrics.recordCommit("pipeline");
+    }
+    
+    @Override
+    public BatchInterviewResponse scheduleInterviews(BatchInterviewRequest batchRequest) {
+        List<InterviewRequest> requests = batchRequest.getInterviews();
+        log.info("Scheduling batch of {} interviews in {} mode", requests.size(), batchRequest.getMode());
+        if (requests.stream().anyMatch(this::isPanel)) {
+            throw new BadRequestException("Panel interviews cannot be scheduled in a batch");
+        }
+        
+        Timer.Sample sample = metrics.startBooking();
+        String outcome = "error";
+        try {
+            BatchInterviewResponse response = commitsItems(batchRequest)
+                ? scheduleBatch(batchRequest, requests)
+                : transactionTemplate.execute(status -> scheduleBatch(batchRequest, requests));
+            outcome = response.isPersisted() ? "created" : "conflict";
+            return response;
+        } catch (ConflictException e) {
+            outcome = "conflict";
+            throw e;
+        } finally {
+            metrics.stopBooking(sample, "batch", outcome);
+        }
+    }
+    
+    private BatchInterviewResponse scheduleBatch(BatchInterviewRequest batchRequest, List<InterviewRequest> requests) {
+        // One query loads every committed booking the batch could collide with
+        Map<String, ParticipantSchedule> interviewerSchedules = new HashMap<>();
+        Map<String, ParticipantSchedule> candidateSchedules = new HashMap<>();
+        for (Interview existing : findBatchConflicts(requests, "batch")) {
+            addToSchedules(existing, interviewerSchedules, candidateSchedules);
+        }
+        
+        // Accept in request order; pending items get negative ids so they can be told apart
+        List<BatchItemResult> results = new ArrayList<>();
+        List<Interview> accepted = new ArrayList<>();
+        List<BatchItemResult> acceptedResults = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            InterviewRequest request = requests.get(index);
+            Interview pending = buildInterview(request);
+            pending.setId(-(index + 1L));
+            
+            Map<Long, Interview> conflicts = new LinkedHashMap<>();
+            findOverlapping(interviewerSchedules, request.getInterviewerEmail(), request)
+                .forEach(conflict -> conflicts.put(conflict.getId(), conflict));
+            findOverlapping(candidateSchedules, request.getCandidateEmail(), request)
+                .forEach(conflict -> conflicts.putIfAbsent(conflict.getId(), conflict));
+            
+            if (conflicts.isEmpty()) {
+                addToSchedules(pending, interviewerSchedules, candidateSchedules);
+                BatchItemResult result = new BatchItemResult(index, BatchItemStatus.CREATED, "Interview scheduled");
+                accepted.add(pending);
+                acceptedResults.add(result);
+                results.add(result);
+            } else {
+                BatchItemResult result = new BatchItemResult(index, BatchItemStatus.CONFLICT,
+                    "Interview slot conflicts detected. Please choose a different time.");
+                for (Long conflictId : conflicts.keySet()) {
+                    if (conflictId > 0) {
+                        result.getConflictingInterviewIds().add(conflictId);
+                    } else {
+                        result.getConflictingItems().add((int) (-conflictId - 1));
+                    }
+                }
+                results.add(result);
+            }
+        }
+        
+        int conflictCount = requests.size() - accepted.size();
+        if (conflictCount > 0 && batchRequest.getMode() == BatchMode.ALL_OR_NOTHING) {
+            log.warn("Batch rejected: {} of {} interviews conflict", conflictCount, requests.size());
+            acceptedResults.forEach(result -> {
+                result.setStatus(BatchItemStatus.SKIPPED);
+                result.setMessage("Not scheduled because other interviews in the batch conflict");
+            });
+            return new BatchInterviewResponse(batchRequest.getMode(), false, 0, conflictCount, results);
+        }
+        
+        int createdCount = accepted.size();
+        if (commitsItems(batchRequest)) {
+            createdCount = insertBestEffort(accepted, acceptedResults);
+            conflictCount += accepted.size() - createdCount;
+        } else {
+            insertBatch(accepted);
+        }
+        for (int i = 0; i < accepted.size(); i++) {
+            if (acceptedResults.get(i).getStatus() == BatchItemStatus.CREATED) {
+                acceptedResults.get(i).setInterview(InterviewMapper.toResponse(accepted.get(i)));
+            }
+        }
+        log.info("Batch scheduled: {} created, {} conflicts", createdCount, conflictCount);
+        
+        return new BatchInterviewResponse(batchRequest.getMode(), true, createdCount, conflictCount, results);
+    }
+    
+    /**
+     * Whether the batch commits its items itself instead of running in one transaction.
+     * Best-effort batches do when slots are claimed, so a slot claimed by another request
+     * between the conflict check and the insert costs only the items it collides with.
+     * Locking batches keep one transaction, as their locks must last until the insert.
+     */
+    private boolean commitsItems(BatchInterviewRequest batchRequest) {
+        return bookingMode.usesSlotClaims() && batchRequest.getMode() == BatchMode.BEST_EFFORT;
+    }
+    
+    /**
+     * Insert the accepted batch items and claim their slots. Runs in the caller's transaction.
+     */
+    private void insertBatch(List<Interview> interviews) {
+        linkParticipants(interviews);
+        metrics.recordPhase("batch", InterviewMetrics.PHASE_INSERT, () -> interviewBatchRepository.insertAll(interviews));
+        if (bookingMode.usesSlotClaims()) {
+            metrics.recordPhase("batch", InterviewMetrics.PHASE_SLOT_CLAIM, () -> claimSlots(interviews));
+        }
+        interviews.forEach(interview -> eventPublisher.publishEvent(new InterviewChangedEvent(interview, Change.SCHEDULED)));
+        metrics.recordCommit("batch");
+    }
+    
+    /**
+     * Insert the accepted items of a best-effort batch in one transaction. If another
+     * request claimed one of their slots meanwhile, insert them one transaction each,
+     * so only the items that collide become conflicts. Returns how many were inserted.
+     */
+    private int insertBestEffort(List<Interview> accepted, List<BatchItemResult> acceptedResults) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(accepted));
+            return accepted.size();
+        } catch (ConflictException e) {
+            log.warn("Batch of {} interviews collided on slot claims, inserting them one by one", accepted.size());
+        }
+        int inserted = 0;
+        for (int i = 0; i < accepted.size(); i++) {
+            List<Interview> item = List.of(accepted.get(i));
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertBatch(item));
+                inserted++;
+            } catch (ConflictException e) {
+                acceptedResults.get(i).setStatus(BatchItemStatus.CONFLICT);
+                acceptedResults.get(i).setMessage(e.getMessage());
+            }
+        }
+        return inserted;
     }
     
     @Override
     @Transactional(readOnly = true)
     public ConflictResponse checkConflicts(InterviewRequest request) {
+        return checkConflicts(request, null, null);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ConflictResponse checkConflicts(InterviewRequest request, Integer suggestionCount, Duration horizon) {
         log.info("Checking conflicts for candidate: {} with interviewer: {}", 
                  request.getCandidateEmail(), request.getInterviewerEmail());
         
-        // Use non-locking version for read-only checking
-        List<Interview> conflicts = findAllConflicts(request);
+        int count = suggestionCount != null ? suggestionCount : defaultSuggestionCount;
+        Duration searchHorizon = horizon != null ? horizon : defaultSuggestionHorizon;
+        if (count < 0 || count > MAX_SUGGESTIONS) {
+            throw new BadRequestException("Suggestions must be between 0 and " + MAX_SUGGESTIONS);
+        }
+        if (searchHorizon.isNegative() || searchHorizon.isZero() || searchHorizon.compareTo(MAX_SUGGESTION_HORIZON) > 0) {
+            throw new BadRequestException("Suggestion horizon must be between 1 and "
+                + MAX_SUGGESTION_HORIZON.toDays() + " days");
+        }
+        
+        // Identical checks arriving together share one lookup and one response, however the emails are cased
+        List<String> interviewerEmails = interviewerEmails(request).stream()
+                .map(Participant::normalizeEmail)
+                .collect(Collectors.toList());
+        ConflictCheckKey key = new ConflictCheckKey(interviewerEmails, Participant.normalizeEmail(request.getCandidateEmail()),
+                request.getStartTime(), request.getEndTime(), count, searchHorizon);
+        return conflictChecks.execute(key, () -> runConflictCheck(request, count, searchHorizon));
+    }
+    
+    private ConflictResponse runConflictCheck(InterviewRequest request, int count, Duration searchHorizon) {
+        List<Interview> conflicts = findBusy(request, request.getStartTime(), request.getEndTime());
+        metrics.recordConflictCheck("check", conflictIndex.isReady() ? "index" : "db", !conflicts.isEmpty());
         
         List<InterviewResponse> conflictResponses = conflicts.stream()
-                .map(this::convertToResponse)
+                .map(InterviewMapper::toResponse)
                 .collect(Collectors.toList());
         
         boolean hasConflict = !conflicts.isEmpty();
@@ -85,7 +651,7 @@ public class InterviewServiceImpl implements InterviewService {
             : "No conflicts found. This slot is available.";
         
         List<String> suggestedSlots = hasConflict 
-            ? generateSuggestedSlots(request.getStartTime(), request.getEndTime())
+            ? metrics.recordSuggestions(() -> generateSuggestedSlots(request, count, searchHorizon))
             : new ArrayList<>();
         
         ConflictResponse response = new ConflictResponse();
@@ -98,155 +664,885 @@ public class InterviewServiceImpl implements InterviewService {
     }
     
     @Override
-    @Transactional(readOnly = true)
-    public List<InterviewResponse> getAllInterviews() {
-        log.info("Fetching all interviews");
-        return interviewRepository.findAll().stream()
-                .map(this::convertToResponse)
+    public SlotSearchResponse findSlots(SlotSearchRequest request) {
+        log.info("Finding free slots for interviewers: {} and candidates: {}",
+                 request.getInterviewerEmails(), request.getCandidateEmails());
+        
+        int count = request.getCount() != null ? request.getCount() : 1;
+        Duration horizon = request.getHorizonDays() != null
+            ? Duration.ofDays(request.getHorizonDays()) : defaultSuggestionHorizon;
+        if (count < 1 || count > MAX_SUGGESTIONS) {
+            throw new BadRequestException("Slot count must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        if (horizon.isNegative() || horizon.isZero() || horizon.compareTo(MAX_SUGGESTION_HORIZON) > 0) {
+            throw new BadRequestException("Search horizon must be between 1 and "
+                + MAX_SUGGESTION_HORIZON.toDays() + " days");
+        }
+        WorkingHours hours = freeSlotFinder.workingHours(request.getWorkDayStart(), request.getWorkDayEnd(),
+                                                         request.getIncludeWeekends());
+        
+        Duration duration = Duration.ofMinutes(request.getDurationMinutes());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime searchFrom = request.getSearchFrom() != null && request.getSearchFrom().isAfter(now)
+            ? request.getSearchFrom() : now;
+        LocalDateTime searchTo = searchFrom.plus(horizon);
+        List<String> interviewerEmails = request.getInterviewerEmails().stream().distinct().toList();
+        List<String> candidateEmails = request.getCandidateEmails() == null
+            ? List.of() : request.getCandidateEmails().stream().distinct().toList();
+        
+        List<TimeWindow> windows = metrics.recordSlotSearch(() -> freeSlotFinder.findEarliest(
+                participantBusyLookup.find(interviewerEmails, candidateEmails, searchFrom, searchTo).all(),
+                duration, searchFrom, searchTo, count, hours));
+        
+        List<FreeSlot> slots = windows.stream()
+                .map(window -> new FreeSlot(window.getStart(), window.getEnd()))
                 .collect(Collectors.toList());
+        return new SlotSearchResponse(searchFrom, searchTo, slots);
     }
     
     @Override
     @Transactional(readOnly = true)
+    public InterviewPage getAllInterviews(PageCursor after, int limit) {
+        log.info("Fetching interviews after: {} limit: {}", after, limit);
+        Pageable pageable = pageRequest(limit);
+        List<InterviewResponse> interviews = after == null
+            ? interviewRepository.findFirstPage(pageable)
+            : interviewRepository.findPageAfter(after.getStartTime(), after.getId(), pageable);
+        // Archived rows start no later than the archive reaches, so later pages skip it
+        if (after == null ? !interviewArchive.isEmpty() : interviewArchive.reaches(after.getStartTime())) {
+            List<InterviewResponse> archived = after == null
+                ? archivedInterviewRepository.findFirstPage(pageable)
+                : archivedInterviewRepository.findPageAfter(after.getStartTime(), after.getId(), pageable);
+            interviews = mergePages(interviews, archived, BY_START, limit);
+        }
+        return toPage("all", interviews, limit);
+    }
+    
+    @Override
+    public ListingVersion getAllInterviewsVersion() {
+        log.info("Fetching version of all interviews");
+        // Aggregates every row, so it is only recomputed after a change
+        return interviewCache.getAllVersion(() -> {
+            ListingVersion version = interviewRepository.findListingVersion();
+            return interviewArchive.isEmpty() ? version : version.plus(archivedInterviewRepository.findListingVersion());
+        });
+    }
+    
+    @Override
     public InterviewResponse getInterviewById(Long id) {
         log.info("Fetching interview with ID: {}", id);
-        Interview interview = interviewRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                    "Interview not found with ID: " + id
-                ));
-        return convertToResponse(interview);
+        // No surrounding transaction, so cache hits never take a connection
+        InterviewResponse response = interviewCache.getById(id, key -> interviewRepository.findResponseById(key)
+                .or(() -> interviewArchive.isEmpty() ? Optional.empty() : archivedInterviewRepository.findResponseById(key))
+                .orElse(null));
+        if (response == null) {
+            throw new ResourceNotFoundException("Interview not found with ID: " + id);
+        }
+        return response;
+    }
+    
+    @Override
+    public List<InterviewResponse> getPanel(Long panelId) {
+        log.info("Fetching panel with ID: {}", panelId);
+        List<InterviewResponse> panel = interviewRepository.findPanel(panelId);
+        if (panel.isEmpty() && !interviewArchive.isEmpty()) {
+            panel = archivedInterviewRepository.findPanel(panelId);
+        }
+        if (panel.isEmpty()) {
+            throw new ResourceNotFoundException("Panel not found with ID: " + panelId);
+        }
+        return panel;
     }
     
     @Override
     @Transactional
-    public InterviewResponse updateInterviewStatus(Long id, InterviewStatus status) {
-        log.info("Updating interview status for ID: {} to {}", id, status);
+    public InterviewResponse updateInterviewStatus(Long id, InterviewStatus status, Set<Long> acceptedVersions) {
+        log.info("Updating interview status for ID: {} to {} at versions {}", id, status, acceptedVersions);
         Interview interview = interviewRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                     "Interview not found with ID: " + id
                 ));
+        if (acceptedVersions != null && !acceptedVersions.contains(interview.getVersion())) {
+            throw new PreconditionFailedException(
+                "Interview " + id + " is at version " + interview.getVersion() + ", not one of " + acceptedVersions);
+        }
         
+        InterviewStatus previousStatus = interview.getStatus();
+        if (previousStatus == InterviewStatus.CANCELLED && status != InterviewStatus.CANCELLED) {
+            // Its slot may have been booked since it was cancelled
+            List<Interview> conflicts = findRestoreConflicts(interview);
+            if (!conflicts.isEmpty()) {
+                log.warn("Conflicts found for restoring cancelled interview {}", id);
+                throw new ConflictException(
+                    "Interview slot was booked since the interview was cancelled. Please reschedule it instead.",
+                    conflicts
+                );
+            }
+        }
+        // Guarded by the version that was read, so a concurrent writer makes it match no row
+        LocalDateTime now = LocalDateTime.now();
+        if (interviewRepository.updateStatusAtVersion(id, interview.getVersion(), status, now) == 0) {
+            if (acceptedVersions == null) {
+                throw new ObjectOptimisticLockingFailureException(Interview.class, id);
+            }
+            throw new PreconditionFailedException("Interview " + id + " was modified concurrently");
+        }
+        // The update detached the entity; bring it in line with the row so the response carries the new version
         interview.setStatus(status);
-        Interview updatedInterview = interviewRepository.save(interview);
+        interview.setUpdatedAt(now);
+        interview.setVersion(interview.getVersion() + 1);
         
-        return convertToResponse(updatedInterview);
+        // The candidate buckets of a panel are held by one of its interviews and move with it
+        List<Interview> activePanel = interview.getPanelId() != null && bookingMode.usesSlotClaims()
+            ? interviewRepository.findByPanelIdAndStatusNot(interview.getPanelId(), InterviewStatus.CANCELLED)
+                .stream()
+                .filter(panelInterview -> !panelInterview.getId().equals(id))
+                .collect(Collectors.toList())
+            : List.of();
+        if (status == InterviewStatus.CANCELLED && previousStatus != InterviewStatus.CANCELLED
+            && bookingMode.usesSlotClaims()) {
+            if (!activePanel.isEmpty()) {
+                slotClaimRepository.transferCandidateClaims(id, activePanel.get(0).getId());
+            }
+            slotClaimRepository.release(id);
+        } else if (previousStatus == InterviewStatus.CANCELLED && status != InterviewStatus.CANCELLED
+                   && bookingMode.usesSlotClaims()) {
+            claimSlots(List.of(interview), activePanel.isEmpty());
+        }
+        eventPublisher.publishEvent(new InterviewChangedEvent(interview, Change.STATUS_CHANGED));
+        
+        return InterviewMapper.toResponse(interview);
     }
     
     @Override
     @Transactional
     public InterviewResponse cancelInterview(Long id) {
         log.info("Cancelling interview with ID: {}", id);
-        return updateInterviewStatus(id, InterviewStatus.CANCELLED);
+        return updateInterviewStatus(id, InterviewStatus.CANCELLED, null);
     }
     
     @Override
-    @Transactional(readOnly = true)
-    public List<InterviewResponse> getUpcomingInterviews() {
-        log.info("Fetching upcoming interviews");
-        return interviewRepository.findUpcomingInterviews(LocalDateTime.now()).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public InterviewPage getUpcomingInterviews(PageCursor after, Duration within, int limit) {
+        log.info("Fetching upcoming interviews after: {} within: {} limit: {}", after, within, limit);
+        if (within != null && (within.isNegative() || within.isZero())) {
+            throw new BadRequestException("Upcoming window must be positive, got " + within);
+        }
+        Pageable pageable = pageRequest(limit);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = within != null ? now.plus(within) : null;
+        if (upcomingIndex.isReady()) {
+            return toPage("upcoming", upcomingIndex.findUpcoming(now, after, until, limit + 1), limit);
+        }
+        
+        List<InterviewResponse> interviews = after == null
+            ? interviewRepository.findUpcomingInterviews(now, pageable)
+            : interviewRepository.findUpcomingPageAfter(now, after.getStartTime(), after.getId(), pageable);
+        if (until != null) {
+            // Rows come in start order, so cutting at the window end also ends the paging
+            interviews = interviews.stream()
+                    .filter(interview -> !interview.getStartTime().isAfter(until))
+                    .collect(Collectors.toList());
+        }
+        return toPage("upcoming", interviews, limit);
     }
     
     @Override
-    @Transactional(readOnly = true)
-    public List<InterviewResponse> getInterviewsByInterviewer(String interviewerEmail) {
-        log.info("Fetching interviews for interviewer: {}", interviewerEmail);
-        return interviewRepository.findByInterviewerEmailOrderByStartTimeDesc(interviewerEmail).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public ListingVersion getInterviewerListingVersion(String interviewerEmail) {
+        log.info("Fetching listing version for interviewer: {}", interviewerEmail);
+        return interviewCache.getParticipantVersion(ParticipantRole.INTERVIEWER, interviewerEmail,
+                () -> {
+                    long interviewerId = participantDirectory.findId(interviewerEmail);
+                    ListingVersion version = interviewRepository.findInterviewerListingVersion(interviewerId);
+                    return interviewArchive.isEmpty() ? version
+                        : version.plus(archivedInterviewRepository.findInterviewerListingVersion(interviewerId));
+                });
+    }
+    
+    @Override
+    public InterviewPage getInterviewsByInterviewer(String interviewerEmail, PageCursor after, int limit) {
+        log.info("Fetching interviews for interviewer: {} after: {} limit: {}", interviewerEmail, after, limit);
+        Pageable pageable = pageRequest(limit);
+        return interviewCache.getParticipantPage(ParticipantRole.INTERVIEWER, interviewerEmail, after, limit, () -> {
+            long interviewerId = participantDirectory.findId(interviewerEmail);
+            List<InterviewResponse> interviews = after == null
+                ? interviewRepository.findInterviewerFirstPage(interviewerId, pageable)
+                : interviewRepository.findInterviewerPageBefore(interviewerId, after.getStartTime(), after.getId(), pageable);
+            if (archiveReachesPage(interviews, limit)) {
+                List<InterviewResponse> archived = after == null
+                    ? archivedInterviewRepository.findInterviewerFirstPage(interviewerId, pageable)
+                    : archivedInterviewRepository.findInterviewerPageBefore(interviewerId, after.getStartTime(),
+                                                                            after.getId(), pageable);
+                interviews = mergePages(interviews, archived, BY_START.reversed(), limit);
+            }
+            return toPage("interviewer", interviews, limit);
+        });
+    }
+    
+    @Override
+    public InterviewPage getInterviewsByCandidate(String candidateEmail, PageCursor after, int limit) {
+        log.info("Fetching interviews for candidate: {} after: {} limit: {}", candidateEmail, after, limit);
+        Pageable pageable = pageRequest(limit);
+        return interviewCache.getParticipantPage(ParticipantRole.CANDIDATE, candidateEmail, after, limit, () -> {
+            long candidateId = participantDirectory.findId(candidateEmail);
+            List<InterviewResponse> interviews = after == null
+                ? interviewRepository.findCandidateFirstPage(candidateId, pageable)
+                : interviewRepository.findCandidatePageBefore(candidateId, after.getStartTime(), after.getId(), pageable);
+            if (archiveReachesPage(interviews, limit)) {
+                List<InterviewResponse> archived = after == null
+                    ? archivedInterviewRepository.findCandidateFirstPage(candidateId, pageable)
+                    : archivedInterviewRepository.findCandidatePageBefore(candidateId, after.getStartTime(),
+                                                                          after.getId(), pageable);
+                interviews = mergePages(interviews, archived, BY_START.reversed(), limit);
+            }
+            return toPage("candidate", interviews, limit);
+        });
+    }
+    
+    @Override
+    public ListingVersion getCandidateListingVersion(String candidateEmail) {
+        log.info("Fetching listing version for candidate: {}", candidateEmail);
+        return interviewCache.getParticipantVersion(ParticipantRole.CANDIDATE, candidateEmail,
+                () -> {
+                    long candidateId = participantDirectory.findId(candidateEmail);
+                    ListingVersion version = interviewRepository.findCandidateListingVersion(candidateId);
+                    return interviewArchive.isEmpty() ? version
+                        : version.plus(archivedInterviewRepository.findCandidateListingVersion(candidateId));
+                });
+    }
+    
+    @Override
+    public FreeBusyResponse getInterviewerFreeBusy(String interviewerEmail, LocalDate from, LocalDate to) {
+        log.info("Fetching free/busy for interviewer: {} from {} to {}", interviewerEmail, from, to);
+        return buildFreeBusy(List.of(interviewerEmail), from, to);
+    }
+    
+    @Override
+    public FreeBusyResponse getCombinedFreeBusy(List<String> interviewerEmails, LocalDate from, LocalDate to) {
+        log.info("Fetching combined free/busy for {} interviewers from {} to {}", interviewerEmails.size(), from, to);
+        return buildFreeBusy(interviewerEmails, from, to);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<InterviewResponse> getInterviewsByCandidate(String candidateEmail) {
-        log.info("Fetching interviews for candidate: {}", candidateEmail);
-        return interviewRepository.findByCandidateEmailOrderByStartTimeDesc(candidateEmail).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public void exportInterviews(InterviewFileFormat format, LocalDateTime from, LocalDateTime to, OutputStream out)
+            throws IOException {
+        log.info("Exporting interviews as {} from {} to {}", format, from, to);
+        try {
+            if (format == InterviewFileFormat.CSV) {
+                writeCsv(from, to, out);
+            } else {
+                writeNdjson(from, to, out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    @Override
+    public ImportResponse importInterviews(InterviewFileFormat format, InputStream in) throws IOException {
+        log.info("Importing interviews from {} in chunks of {}", format, importChunkSize);
+        long startNanos = System.nanoTime();
+        ImportResponse response = new ImportResponse();
+        
+        // Each chunk is validated, conflict-checked and committed on its own, so memory
+        // stays bounded and rows committed by earlier chunks are seen by later ones
+        try (InterviewRecordReader reader = new InterviewRecordReader(format, in, objectMapper)) {
+            List<ImportRecord> chunk = new ArrayList<>(importChunkSize);
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == importChunkSize) {
+                    importChunk(chunk, response);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, response);
+            }
+        }
+        
+        response.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        log.info("Import finished: {} imported, {} rejected in {} ms",
+                 response.getImportedCount(), response.getRejectedCount(), response.getDurationMillis());
+        return response;
     }
     
     // Helper Methods
     
+    private void importChunk(List<ImportRecord> records, ImportResponse response) {
+        long startNanos = System.nanoTime();
+        List<ImportRejection> rejections = new ArrayList<>();
+        List<ImportRecord> candidates = new ArrayList<>();
+        for (ImportRecord record : records) {
+            String problem = record.isParsed() ? validateImport(record.getRequest()) : record.getError();
+            if (problem == null) {
+                candidates.add(record);
+            } else {
+                rejections.add(new ImportRejection(record.getNumber(), problem));
+            }
+        }
+        
+        int imported = 0;
+        if (!candidates.isEmpty()) {
+            List<ImportRejection> conflicts = new ArrayList<>();
+            try {
+                imported = transactionTemplate.execute(status -> insertImportChunk(candidates, conflicts));
+                rejections.addAll(conflicts);
+            } catch (ConflictException e) {
+                // A concurrent booking took one of the claimed slots; the whole chunk rolled back
+                log.warn("Import chunk starting at record {} rolled back: {}",
+                         records.get(0).getNumber(), e.getMessage());
+                candidates.forEach(record -> rejections.add(new ImportRejection(record.getNumber(), e.getMessage())));
+            }
+        }
+        rejections.sort(Comparator.comparingInt(ImportRejection::getRecord));
+        
+        long durationNanos = System.nanoTime() - startNanos;
+        long recordsPerSecond = durationNanos > 0 ? records.size() * 1_000_000_000L / durationNanos : 0;
+        ImportChunkResult result = new ImportChunkResult(response.getChunks().size(), records.get(0).getNumber(),
+                records.size(), imported, rejections.size(), TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                recordsPerSecond);
+        metrics.recordImportChunk(imported, rejections.size(), durationNanos);
+        log.info("Import chunk {}: {} imported, {} rejected, {} records/s",
+                 result.getChunk(), imported, rejections.size(), recordsPerSecond);
+        
+        response.getChunks().add(result);
+        response.setTotalRecords(response.getTotalRecords() + records.size());
+        response.setImportedCount(response.getImportedCount() + imported);
+        response.setRejectedCount(response.getRejectedCount() + rejections.size());
+        for (ImportRejection rejection : rejections) {
+            if (response.getRejections().size() == MAX_REPORTED_REJECTIONS) {
+                response.setRejectionsTruncated(true);
+                break;
+            }
+            response.getRejections().add(rejection);
+        }
+    }
+    
     /**
-     * Find conflicts WITHOUT locking - for read-only operations
+     * Insert the chunk's records that overlap neither committed interviews nor earlier
+     * records of the chunk. Cancelled records never conflict. Returns the number inserted.
      */
-    private List<Interview> findAllConflicts(InterviewRequest request) {
-        List<Interview> conflicts = new ArrayList<>();
+    private int insertImportChunk(List<ImportRecord> candidates, List<ImportRejection> conflicts) {
+        List<InterviewRequest> activeRequests = candidates.stream()
+                .filter(record -> record.getStatus() != InterviewStatus.CANCELLED)
+                .map(ImportRecord::getRequest)
+                .collect(Collectors.toList());
         
-        List<Interview> interviewerConflicts = interviewRepository.findInterviewerConflicts(
-            request.getInterviewerEmail(),
-            request.getStartTime(),
-            request.getEndTime()
-        );
-        conflicts.addAll(interviewerConflicts);
+        Map<String, ParticipantSchedule> interviewerSchedules = new HashMap<>();
+        Map<String, ParticipantSchedule> candidateSchedules = new HashMap<>();
+        if (!activeRequests.isEmpty()) {
+            for (Interview existing : findBatchConflicts(activeRequests, "import")) {
+                addToSchedules(existing, interviewerSchedules, candidateSchedules);
+            }
+        }
         
-        List<Interview> candidateConflicts = interviewRepository.findCandidateConflicts(
-            request.getCandidateEmail(),
-            request.getStartTime(),
-            request.getEndTime()
-        );
-        conflicts.addAll(candidateConflicts);
+        // Pending records are keyed by their negated record number until they get real ids
+        List<Interview> accepted = new ArrayList<>();
+        List<Interview> acceptedActive = new ArrayList<>();
+        for (ImportRecord record : candidates) {
+            Interview pending = buildInterview(record.getRequest());
+            pending.setStatus(record.getStatus());
+            pending.setId(-(long) record.getNumber());
+            if (record.getStatus() == InterviewStatus.CANCELLED) {
+                accepted.add(pending);
+                continue;
+            }
+            
+            Map<Long, Interview> overlapping = new LinkedHashMap<>();
+            findOverlapping(interviewerSchedules, record.getRequest().getInterviewerEmail(), record.getRequest())
+                .forEach(conflict -> overlapping.put(conflict.getId(), conflict));
+            findOverlapping(candidateSchedules, record.getRequest().getCandidateEmail(), record.getRequest())
+                .forEach(conflict -> overlapping.putIfAbsent(conflict.getId(), conflict));
+            
+            if (overlapping.isEmpty()) {
+                addToSchedules(pending, interviewerSchedules, candidateSchedules);
+                accepted.add(pending);
+                acceptedActive.add(pending);
+                continue;
+            }
+            
+            ImportRejection rejection = new ImportRejection(record.getNumber(), null);
+            List<String> conflictingRecords = new ArrayList<>();
+            for (Long conflictId : overlapping.keySet()) {
+                if (conflictId > 0) {
+                    rejection.getConflictingInterviewIds().add(conflictId);
+                } else {
+                    conflictingRecords.add(String.valueOf(-conflictId));
+                }
+            }
+            rejection.setReason(conflictingRecords.isEmpty()
+                ? "Conflicts with existing interviews"
+                : "Conflicts with record(s) " + String.join(", ", conflictingRecords) + " of this import");
+            conflicts.add(rejection);
+        }
         
-        return conflicts;
+        linkParticipants(accepted);
+        metrics.recordPhase("import", InterviewMetrics.PHASE_INSERT, () -> interviewBatchRepository.insertAll(accepted));
+        if (bookingMode.usesSlotClaims() && !acceptedActive.isEmpty()) {
+            metrics.recordPhase("import", InterviewMetrics.PHASE_SLOT_CLAIM, () -> claimSlots(acceptedActive));
+        }
+        accepted.forEach(interview -> eventPublisher.publishEvent(new InterviewChangedEvent(interview, Change.SCHEDULED)));
+        return accepted.size();
     }
     
     /**
-     * Find conflicts WITH locking - for actual booking to prevent race conditions
+     * Bean validation of an imported record, or null when it is valid
      */
-    private List<Interview> findAllConflictsWithLock(InterviewRequest request) {
-        List<Interview> conflicts = new ArrayList<>();
-        
-        List<Interview> interviewerConflicts = interviewRepository.findInterviewerConflictsWithLock(
-            request.getInterviewerEmail(),
-            request.getStartTime(),
-            request.getEndTime()
-        );
-        conflicts.addAll(interviewerConflicts);
+    private String validateImport(InterviewRequest request) {
+        Set<ConstraintViolation<InterviewRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!request.getEndTime().isAfter(request.getStartTime())) {
+            return "End time must be after start time";
+        }
+        if (isPanel(request)) {
+            return "Panel interviews cannot be imported";
+        }
+        return null;
+    }
+    
+    private void writeNdjson(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        // One generator for the whole export; flushing is left to its buffer, not every row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            int[] rows = {0};
+            interviewExportRepository.forEachInterview(from, to, exportNeedsArchive(from), interview -> {
+                try {
+                    writer.writeValue(generator, InterviewMapper.toResponse(interview));
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (rows[0] > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+    
+    private void writeCsv(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        interviewExportRepository.forEachInterview(from, to, exportNeedsArchive(from), interview -> {
+            try {
+                writer.write(String.join(",",
+                    String.valueOf(interview.getId()),
+                    csvField(interview.getCandidateName()),
+                    csvField(interview.getCandidateEmail()),
+                    csvField(interview.getInterviewerName()),
+                    csvField(interview.getInterviewerEmail()),
+                    csvTime(interview.getStartTime()),
+                    csvTime(interview.getEndTime()),
+                    interview.getStatus().name(),
+                    csvField(interview.getPosition()),
+                    csvField(interview.getNotes()),
+                    csvTime(interview.getCreatedAt()),
+                    csvTime(interview.getUpdatedAt())));
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+    
+    /**
+     * Quote a CSV field when it contains a separator, quote or line break (RFC 4180)
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+    
+    private static String csvTime(LocalDateTime time) {
+        return time != null ? EXPORT_TIME_FORMAT.format(time) : "";
+    }
+    
+    private FreeBusyResponse buildFreeBusy(List<String> interviewerEmails, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_FREE_BUSY_DAYS) {
+            throw new BadRequestException(
+                "Free/busy range must be between 1 and " + MAX_FREE_BUSY_DAYS + " days");
+        }
         
-        List<Interview> candidateConflicts = interviewRepository.findCandidateConflictsWithLock(
-            request.getCandidateEmail(),
+        List<FreeBusyDay> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            long[] busy = freeBusyCalendar.combinedBusyBits(interviewerEmails, date);
+            String encoded = Base64.getEncoder().encodeToString(freeBusyCalendar.toBytes(busy));
+            days.add(new FreeBusyDay(date, encoded));
+        }
+        return new FreeBusyResponse(interviewerEmails, freeBusyCalendar.getSlotMinutes(),
+                                    freeBusyCalendar.getSlotsPerDay(), days);
+    }
+    
+    /**
+     * Find conflicts WITHOUT locking - for read-only operations
+     */
+    private List<Interview> findAllConflicts(InterviewRequest request) {
+        return findStoredConflicts(request, request.getStartTime(), request.getEndTime());
+    }
+    
+    /**
+     * Find conflicts WITH locking - for actual booking to prevent race conditions.
+     * A panel checks every interviewer and the candidate in one query that locks in id order.
+     */
+    private List<Interview> findAllConflictsWithLock(InterviewRequest request) {
+        List<String> interviewerEmails = interviewerEmails(request);
+        Map<String, Long> participantIds = findParticipantIds(interviewerEmails, request.getCandidateEmail());
+        if (isPanel(request)) {
+            return interviewRepository.findParticipantConflictsWithLock(idsOf(participantIds, interviewerEmails),
+                List.of(idOf(participantIds, request.getCandidateEmail())),
+                normalized(interviewerEmails), normalized(List.of(request.getCandidateEmail())),
+                request.getStartTime(), request.getEndTime());
+        }
+        return interviewRepository.findConflictsWithLock(
+            idOf(participantIds, request.getInterviewerEmail()),
+            idOf(participantIds, request.getCandidateEmail()),
+            Participant.normalizeEmail(request.getInterviewerEmail()),
+            Participant.normalizeEmail(request.getCandidateEmail()),
             request.getStartTime(),
             request.getEndTime()
         );
-        conflicts.addAll(candidateConflicts);
+    }
+    
+    /**
+     * Non-cancelled interviews a cancelled interview would overlap if it were restored,
+     * other than those of its own panel; locked unless slot claims are used
+     */
+    private List<Interview> findRestoreConflicts(Interview interview) {
+        Map<String, Long> participantIds = findParticipantIds(List.of(interview.getInterviewerEmail()),
+                                                              interview.getCandidateEmail());
+        Long interviewerId = idOf(participantIds, interview.getInterviewerEmail());
+        Long candidateId = idOf(participantIds, interview.getCandidateEmail());
+        String interviewerEmail = Participant.normalizeEmail(interview.getInterviewerEmail());
+        String candidateEmail = Participant.normalizeEmail(interview.getCandidateEmail());
+        List<Interview> overlapping = bookingMode.usesSlotClaims()
+            ? interviewRepository.findConflicts(interviewerId, candidateId, interviewerEmail, candidateEmail,
+                                                interview.getStartTime(), interview.getEndTime())
+            : interviewRepository.findConflictsWithLock(interviewerId, candidateId, interviewerEmail, candidateEmail,
+                                                        interview.getStartTime(), interview.getEndTime());
+        return overlapping.stream()
+                .filter(other -> !other.getId().equals(interview.getId()))
+                .filter(other -> interview.getPanelId() == null || !interview.getPanelId().equals(other.getPanelId()))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Non-cancelled stored interviews of any participant of the request in a time range, without locking
+     */
+    private List<Interview> findStoredConflicts(InterviewRequest request, LocalDateTime startTime, LocalDateTime endTime) {
+        List<String> interviewerEmails = interviewerEmails(request);
+        Map<String, Long> participantIds = findParticipantIds(interviewerEmails, request.getCandidateEmail());
+        if (isPanel(request)) {
+            return interviewRepository.findParticipantConflicts(idsOf(participantIds, interviewerEmails),
+                List.of(idOf(participantIds, request.getCandidateEmail())),
+                normalized(interviewerEmails), normalized(List.of(request.getCandidateEmail())), startTime, endTime);
+        }
+        return interviewRepository.findConflicts(idOf(participantIds, request.getInterviewerEmail()),
+                                                 idOf(participantIds, request.getCandidateEmail()),
+                                                 Participant.normalizeEmail(request.getInterviewerEmail()),
+                                                 Participant.normalizeEmail(request.getCandidateEmail()),
+                                                 startTime, endTime);
+    }
+    
+    /**
+     * Find committed bookings overlapping any interview of a batch or import chunk,
+     * locked unless slot claims are used
+     */
+    private List<Interview> findBatchConflicts(List<InterviewRequest> requests, String operation) {
+        Set<String> interviewerEmails = requests.stream()
+                .map(InterviewRequest::getInterviewerEmail)
+                .collect(Collectors.toSet());
+        Set<String> candidateEmails = requests.stream()
+                .map(InterviewRequest::getCandidateEmail)
+                .collect(Collectors.toSet());
+        Map<String, Long> participantIds = findParticipantIds(interviewerEmails, candidateEmails);
+        Set<Long> interviewerIds = Set.copyOf(idsOf(participantIds, interviewerEmails));
+        Set<Long> candidateIds = Set.copyOf(idsOf(participantIds, candidateEmails));
+        LocalDateTime startTime = requests.stream()
+                .map(InterviewRequest::getStartTime)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        LocalDateTime endTime = requests.stream()
+                .map(InterviewRequest::getEndTime)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
         
-        return conflicts;
+        List<String> interviewerKeys = normalized(interviewerEmails);
+        List<String> candidateKeys = normalized(candidateEmails);
+        return bookingMode.usesSlotClaims()
+            ? metrics.recordPhase(operation, InterviewMetrics.PHASE_CONFLICT_QUERY, () ->
+                interviewRepository.findParticipantConflicts(interviewerIds, candidateIds,
+                                                             interviewerKeys, candidateKeys, startTime, endTime))
+            : metrics.recordPhase(operation, InterviewMetrics.PHASE_CONFLICT_QUERY_LOCKED, () ->
+                interviewRepository.findParticipantConflictsWithLock(interviewerIds, candidateIds,
+                                                                     interviewerKeys, candidateKeys, startTime, endTime));
+    }
+    
+    private static List<String> normalized(Collection<String> emails) {
+        return emails.stream().map(Participant::normalizeEmail).distinct().collect(Collectors.toList());
+    }
+    
+    /**
+     * Participant ids by normalized email; unknown emails get {@link Participant#NO_ID}, which matches nothing
+     */
+    private Map<String, Long> findParticipantIds(Collection<String> interviewerEmails, Collection<String> candidateEmails) {
+        List<String> emails = new ArrayList<>(interviewerEmails);
+        emails.addAll(candidateEmails);
+        return participantDirectory.findIds(emails);
+    }
+    
+    private Map<String, Long> findParticipantIds(Collection<String> interviewerEmails, String candidateEmail) {
+        return findParticipantIds(interviewerEmails, List.of(candidateEmail));
+    }
+    
+    private static Long idOf(Map<String, Long> participantIds, String email) {
+        return participantIds.get(Participant.normalizeEmail(email));
+    }
+    
+    private static List<Long> idsOf(Map<String, Long> participantIds, Collection<String> emails) {
+        return emails.stream().map(email -> idOf(participantIds, email)).collect(Collectors.toList());
+    }
+    
+    /**
+     * Point the interviews at their participants, creating the participants not seen before
+     */
+    private void linkParticipants(List<Interview> interviews) {
+        Map<String, String> namesByEmail = new LinkedHashMap<>();
+        for (Interview interview : interviews) {
+            namesByEmail.putIfAbsent(interview.getInterviewerEmail(), interview.getInterviewerName());
+            namesByEmail.putIfAbsent(interview.getCandidateEmail(), interview.getCandidateName());
+        }
+        Map<String, Long> participantIds = participantDirectory.resolve(namesByEmail);
+        for (Interview interview : interviews) {
+            interview.setInterviewerId(idOf(participantIds, interview.getInterviewerEmail()));
+            interview.setCandidateId(idOf(participantIds, interview.getCandidateEmail()));
+        }
+    }
+    
+    private void addToSchedules(Interview interview,
+                                Map<String, ParticipantSchedule> interviewerSchedules,
+                                Map<String, ParticipantSchedule> candidateSchedules) {
+        interviewerSchedules.computeIfAbsent(Participant.normalizeEmail(interview.getInterviewerEmail()),
+                                             email -> new ParticipantSchedule())
+                .add(interview);
+        candidateSchedules.computeIfAbsent(Participant.normalizeEmail(interview.getCandidateEmail()),
+                                           email -> new ParticipantSchedule())
+                .add(interview);
+    }
+    
+    private List<Interview> findOverlapping(Map<String, ParticipantSchedule> schedules, String email,
+                                            InterviewRequest request) {
+        ParticipantSchedule schedule = schedules.get(Participant.normalizeEmail(email));
+        if (schedule == null) {
+            return List.of();
+        }
+        return schedule.findOverlapping(request.getStartTime(), request.getEndTime());
+    }
+    
+    /**
+     * Claim the interviews' time buckets - fails fast if a concurrent booking got there first
+     */
+    private void claimSlots(List<Interview> interviews) {
+        claimSlots(interviews, true);
+    }
+    
+    private void claimSlots(List<Interview> interviews, boolean includeCandidates) {
+        try {
+            if (includeCandidates) {
+                slotClaimRepository.claimAll(interviews);
+            } else {
+                slotClaimRepository.claimInterviewerSlots(interviews);
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Slot claim collision for {} interview(s)", interviews.size());
+            if (!interviews.stream().allMatch(slotClaimRepository::fillsBuckets)) {
+                throw new ConflictException(
+                    "Interview slot was just booked by another request, or an adjacent interview shares a slot " +
+                    "claim bucket with it. Please choose a different time.",
+                    new ArrayList<>()
+                );
+            }
+            throw new ConflictException(
+                "Interview slot was just booked by another request. Please choose a different time.", 
+                new ArrayList<>()
+            );
+        }
     }
     
-    private List<String> generateSuggestedSlots(LocalDateTime requestedStart, LocalDateTime requestedEnd) {
-        List<String> suggestions = new ArrayList<>();
-        long durationMinutes = java.time.Duration.between(requestedStart, requestedEnd).toMinutes();
+    /**
+     * Fetch one row more than requested so we know whether another page exists
+     */
+    private Pageable pageRequest(int limit) {
+        if (limit < 1 || limit > InterviewPage.MAX_LIMIT) {
+            throw new BadRequestException(
+                "Limit must be between 1 and " + InterviewPage.MAX_LIMIT + ", got " + limit);
+        }
+        return PageRequest.of(0, limit + 1);
+    }
+    
+    private InterviewPage toPage(String listing, List<InterviewResponse> interviews, int limit) {
+        boolean hasMore = interviews.size() > limit;
+        List<InterviewResponse> page = hasMore ? new ArrayList<>(interviews.subList(0, limit)) : interviews;
+        metrics.recordListingRows(listing, page.size());
         
-        LocalDateTime slot1 = requestedStart.plusHours(2);
-        LocalDateTime slot2 = requestedStart.plusHours(4);
-        LocalDateTime slot3 = requestedStart.plusDays(1);
+        String nextCursor = null;
+        if (hasMore) {
+            InterviewResponse last = page.get(page.size() - 1);
+            nextCursor = new PageCursor(last.getStartTime(), last.getId()).toString();
+        }
+        return new InterviewPage(page, nextCursor);
+    }
+    
+    /**
+     * Whether archived rows can belong on a newest-first page. They all start at or before
+     * the archive's reach, so only a page that ran out of hot rows or reaches back that far needs them.
+     */
+    private boolean archiveReachesPage(List<InterviewResponse> newestFirst, int limit) {
+        if (interviewArchive.isEmpty()) {
+            return false;
+        }
+        return newestFirst.size() <= limit || interviewArchive.reaches(newestFirst.get(limit).getStartTime());
+    }
+    
+    /**
+     * Merge a page of hot rows with a page of archived rows read with the same cursor,
+     * keeping the one extra row that tells whether another page exists
+     */
+    private List<InterviewResponse> mergePages(List<InterviewResponse> hot, List<InterviewResponse> archived,
+                                               Comparator<InterviewResponse> order, int limit) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<InterviewResponse> merged = new ArrayList<>(hot.size() + archived.size());
+        merged.addAll(hot);
+        merged.addAll(archived);
+        merged.sort(order);
+        return merged.size() > limit + 1 ? new ArrayList<>(merged.subList(0, limit + 1)) : merged;
+    }
+    
+    private boolean exportNeedsArchive(LocalDateTime from) {
+        return from == null ? !interviewArchive.isEmpty() : interviewArchive.reaches(from);
+    }
+    
+    private boolean isPanel(InterviewRequest request) {
+        return request.getPanelInterviewers() != null && !request.getPanelInterviewers().isEmpty();
+    }
+    
+    /**
+     * The primary interviewer followed by any panel interviewers, which must all differ
+     */
+    private List<String> interviewerEmails(InterviewRequest request) {
+        if (!isPanel(request)) {
+            return List.of(request.getInterviewerEmail());
+        }
+        List<String> emails = new ArrayList<>();
+        emails.add(request.getInterviewerEmail());
+        request.getPanelInterviewers().forEach(panelist -> emails.add(panelist.getInterviewerEmail()));
+        if (emails.stream().map(Participant::normalizeEmail).distinct().count() != emails.size()) {
+            throw new BadRequestException("Panel interviewers must be distinct");
+        }
+        return emails;
+    }
+    
+    /**
+     * The interviews of one booking: the primary interviewer's, then one per panel interviewer
+     */
+    private List<Interview> buildBooking(InterviewRequest request) {
+        List<Interview> booking = new ArrayList<>();
+        booking.add(buildInterview(request));
+        if (isPanel(request)) {
+            for (PanelInterviewer panelist : request.getPanelInterviewers()) {
+                Interview interview = buildInterview(request);
+                interview.setInterviewerName(panelist.getInterviewerName());
+                interview.setInterviewerEmail(panelist.getInterviewerEmail());
+                booking.add(interview);
+            }
+        }
+        return booking;
+    }
+    
+    private Interview buildInterview(InterviewRequest request) {
+        Interview interview = new Interview();
+        interview.setCandidateName(request.getCandidateName());
+        interview.setCandidateEmail(request.getCandidateEmail());
+        interview.setInterviewerName(request.getInterviewerName());
+        interview.setInterviewerEmail(request.getInterviewerEmail());
+        interview.setStartTime(request.getStartTime());
+        interview.setEndTime(request.getEndTime());
+        interview.setPosition(request.getPosition());
+        interview.setNotes(request.getNotes());
+        interview.setStatus(InterviewStatus.PENDING);
+        return interview;
+    }
+    
+    /**
+     * Suggest the nearest genuinely free windows of the requested duration,
+     * searching the horizon on both sides of the requested start (never in the past)
+     */
+    private List<String> generateSuggestedSlots(InterviewRequest request, int suggestionCount, Duration horizon) {
+        LocalDateTime requestedStart = request.getStartTime();
+        Duration duration = Duration.between(requestedStart, request.getEndTime());
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime searchFrom = requestedStart.minus(horizon).isAfter(now) ? requestedStart.minus(horizon) : now;
+        LocalDateTime searchTo = requestedStart.plus(horizon).plus(duration);
         
-        suggestions.add(formatTimeSlot(slot1, slot1.plusMinutes(durationMinutes)));
-        suggestions.add(formatTimeSlot(slot2, slot2.plusMinutes(durationMinutes)));
-        suggestions.add(formatTimeSlot(slot3, slot3.plusMinutes(durationMinutes)));
+        // Both participants' busy intervals for the whole horizon in one lookup
+        List<Interview> busy = findBusy(request, searchFrom, searchTo);
         
-        return suggestions;
+        return freeSlotFinder.findNearest(busy, requestedStart, duration, searchFrom, searchTo, suggestionCount)
+                .stream()
+                .map(window -> formatTimeSlot(window.getStart(), window.getEnd()))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Non-cancelled interviews of any participant in a time range, served from the
+     * in-memory index once it is warm and from a single non-locking query before that
+     */
+    private List<Interview> findBusy(InterviewRequest request, LocalDateTime startTime, LocalDateTime endTime) {
+        if (conflictIndex.isReady()) {
+            if (!isPanel(request)) {
+                return conflictIndex.findConflicts(request.getInterviewerEmail(), request.getCandidateEmail(),
+                                                   startTime, endTime);
+            }
+            Map<Long, Interview> busy = new LinkedHashMap<>();
+            for (String interviewerEmail : interviewerEmails(request)) {
+                conflictIndex.findConflicts(interviewerEmail, request.getCandidateEmail(), startTime, endTime)
+                    .forEach(interview -> busy.putIfAbsent(interview.getId(), interview));
+            }
+            return new ArrayList<>(busy.values());
+        }
+        return findStoredConflicts(request, startTime, endTime);
     }
     
     private String formatTimeSlot(LocalDateTime start, LocalDateTime end) {
         return String.format("%s to %s", start.toString(), end.toString());
     }
     
-    private InterviewResponse convertToResponse(Interview interview) {
-        InterviewResponse response = new InterviewResponse();
-        response.setId(interview.getId());
-        response.setCandidateName(interview.getCandidateName());
-        response.setCandidateEmail(interview.getCandidateEmail());
-        response.setInterviewerName(interview.getInterviewerName());
-        response.setInterviewerEmail(interview.getInterviewerEmail());
-        response.setStartTime(interview.getStartTime());
-        response.setEndTime(interview.getEndTime());
-        response.setStatus(interview.getStatus());
-        response.setNotes(interview.getNotes());
-        response.setPosition(interview.getPosition());
-        response.setCreatedAt(interview.getCreatedAt());
-        response.setUpdatedAt(interview.getUpdatedAt());
-        return response;
+    /**
+     * Everything the response of a conflict check depends on, with normalized emails
+     */
+    private record ConflictCheckKey(List<String> interviewerEmails, String candidateEmail,
+                                    LocalDateTime startTime, LocalDateTime endTime,
+                                    int suggestionCount, Duration horizon) {
+    }
+    
+    /**
+     * A booking queued on the pipeline, with the idempotency key to record alongside it, if any
+     */
+    private record PipelinedBooking(InterviewRequest request, IdempotencyKeys.Claim claim) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,279 @@
+package com.interview.scheduler.service.outbox;
+
+import com.interview.scheduler.exception.BadRequestException;
+import com.interview.scheduler.metrics.InterviewMetrics;
+import com.interview.scheduler.model.OutboxEvent;
+import com.interview.scheduler.model.Participant;
+import com.interview.scheduler.repository.OutboxRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent event subscriptions to interview changes, optionally of one interviewer.
+ *
+ * Every event carries its outbox position as its id. A client reconnecting with
+ * Last-Event-ID is replayed what it missed from the outbox table before it gets live
+ * events again; a client resuming from before the outbox retention first receives a
+ * reset event and should reload its listings.
+ *
+ * The relay thread only queues each run on every subscriber's bounded buffer; sending
+ * and replay queries happen on a small pool of sender threads, one task per subscriber
+ * at a time, so replay and live delivery can never interleave out of order and a slow
+ * client never holds up the others. A subscriber whose buffer overflows is closed and
+ * resumes from its Last-Event-ID when it reconnects.
+ */
+@Component
+public class InterviewStream {
+
+    private static final Logger log = LoggerFactory.getLogger(InterviewStream.class);
+
+    private static final String RESET_EVENT = "reset";
+
+    // Cursor of a subscriber that has not been given a position yet and only wants new events
+    private static final long LIVE = -1;
+
+    private final OutboxRepository outboxRepository;
+    private final Duration timeout;
+    private final long heartbeatNanos;
+    private final int replayBatchSize;
+    private final int bufferSize;
+    private final InterviewMetrics metrics;
+    private final ExecutorService senders;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public InterviewStream(OutboxRepository outboxRepository,
+                           InterviewMetrics metrics,
+                           @Value("${interview.stream.timeout:PT30M}") Duration timeout,
+                           @Value("${interview.stream.heartbeat:PT15S}") Duration heartbeat,
+                           @Value("${interview.stream.replay-batch-size:500}") int replayBatchSize,
+                           @Value("${interview.stream.buffer-size:256}") int bufferSize,
+                           @Value("${interview.stream.sender-threads:4}") int senderThreads) {
+        if (heartbeat.isNegative() || heartbeat.isZero()) {
+            throw new IllegalArgumentException("Stream heartbeat must be positive, got " + heartbeat);
+        }
+        if (replayBatchSize < 1) {
+            throw new IllegalArgumentException("Stream replay batch size must be positive, got " + replayBatchSize);
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Stream buffer size must be positive, got " + bufferSize);
+        }
+        if (senderThreads < 1) {
+            throw new IllegalArgumentException("Stream sender threads must be positive, got " + senderThreads);
+        }
+        this.outboxRepository = outboxRepository;
+        this.timeout = timeout;
+        this.heartbeatNanos = heartbeat.toNanos();
+        this.replayBatchSize = replayBatchSize;
+        this.bufferSize = bufferSize;
+        this.metrics = metrics;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, task -> {
+            Thread thread = new Thread(task, "interview-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        metrics.monitorStream(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    /**
+     * Subscribe to changes of one interviewer's interviews, or of all interviews if
+     * the email is null, starting after the given event id or with the next event
+     */
+    public SseEmitter subscribe(String interviewerEmail, String lastEventId) {
+        log.info("Subscribing to interview changes of interviewer: {} after event: {}", interviewerEmail, lastEventId);
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout.toMillis()), Participant.normalizeEmail(interviewerEmail),
+                                               parseEventId(lastEventId), bufferSize);
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(subscriber.emitter::complete);
+        subscribers.add(subscriber);
+        return subscriber.emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Queue the events positioned in (from, upTo] for every subscriber and return without
+     * waiting for any of them. Called by the relay thread only.
+     */
+    void deliver(List<OutboxEvent> events, long from, long upTo) {
+        RelayRun run = new RelayRun(events, from, upTo);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.pending.offer(run)) {
+                log.debug("Closing interview stream subscriber of interviewer: {} after {} unsent relay runs",
+                          subscriber.interviewerEmail, bufferSize);
+                metrics.recordStreamOverflow();
+                subscribers.remove(subscriber);
+                // Completed by its own sender task, which may be blocked writing to the client
+                subscriber.closed = true;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            RelayRun run;
+            while (!subscriber.closed && (run = subscriber.pending.poll()) != null) {
+                process(subscriber, run);
+            }
+            if (subscriber.closed) {
+                subscriber.emitter.complete();
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping interview stream subscriber of interviewer: {}", subscriber.interviewerEmail, e);
+            subscriber.closed = true;
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // A run queued after the loop saw an empty buffer would otherwise wait for the next one
+        if (!subscriber.pending.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Send one relay run to a subscriber. A subscriber behind its start is replayed up
+     * to one batch from the outbox table instead.
+     */
+    private void process(Subscriber subscriber, RelayRun run) throws IOException {
+        if (subscriber.cursor == LIVE) {
+            subscriber.cursor = run.from;
+        }
+        if (subscriber.cursor < run.from) {
+            replay(subscriber, run.upTo);
+        } else {
+            for (OutboxEvent event : run.events) {
+                if (event.getPosition() > subscriber.cursor && subscriber.wants(event)) {
+                    send(subscriber, event);
+                }
+            }
+            subscriber.cursor = Math.max(subscriber.cursor, run.upTo);
+        }
+        long now = System.nanoTime();
+        if (now - subscriber.lastSentNanos > heartbeatNanos) {
+            subscriber.emitter.send(SseEmitter.event().comment("keepalive"));
+            subscriber.lastSentNanos = now;
+        }
+    }
+
+    private void replay(Subscriber subscriber, long upTo) throws IOException {
+        if (!subscriber.retentionChecked) {
+            Long oldest = outboxRepository.findMinPosition();
+            long firstKept = oldest != null ? oldest : upTo + 1;
+            if (subscriber.cursor < firstKept - 1) {
+                subscriber.cursor = firstKept - 1;
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(subscriber.cursor))
+                        .name(RESET_EVENT)
+                        .data("Missed events are no longer available"));
+            }
+            subscriber.retentionChecked = true;
+        }
+        List<OutboxEvent> missed = outboxRepository.findBetween(subscriber.cursor, upTo,
+                                                                subscriber.interviewerEmail, replayBatchSize);
+        for (OutboxEvent event : missed) {
+            send(subscriber, event);
+        }
+        subscriber.cursor = missed.size() < replayBatchSize ? upTo : missed.get(missed.size() - 1).getPosition();
+    }
+
+    private void send(Subscriber subscriber, OutboxEvent event) throws IOException {
+        subscriber.emitter.send(SseEmitter.event()
+                .id(String.valueOf(event.getPosition()))
+                .name(event.getEventType())
+                .data(event.getPayload()));
+        subscriber.cursor = event.getPosition();
+        subscriber.lastSentNanos = System.nanoTime();
+    }
+
+    private static long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return LIVE;
+        }
+        try {
+            long position = Long.parseLong(lastEventId.trim());
+            if (position >= 0) {
+                return position;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new BadRequestException("Last-Event-ID must be an event id from this stream, got " + lastEventId);
+    }
+
+    /**
+     * Events the relay read in one pass, positioned in (from, upTo]
+     */
+    private record RelayRun(List<OutboxEvent> events, long from, long upTo) {
+    }
+
+    /**
+     * One stream. The cursor and send state are only touched by the subscriber's sender
+     * task, which the draining flag keeps to one at a time.
+     */
+    private static class Subscriber {
+
+        private final SseEmitter emitter;
+        private final String interviewerEmail;
+        private final BlockingQueue<RelayRun> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private long cursor;
+        private boolean retentionChecked;
+        private long lastSentNanos = System.nanoTime();
+
+        Subscriber(SseEmitter emitter, String interviewerEmail, long cursor, int bufferSize) {
+            this.emitter = emitter;
+            this.interviewerEmail = interviewerEmail;
+            this.cursor = cursor;
+            this.pending = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean wants(OutboxEvent event) {
+            return interviewerEmail == null || interviewerEmail.equals(event.getInterviewerEmail());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.interview.scheduler.dto;
+
+public class InterviewerUtilization {
+    
+    private String interviewerEmail;
+    private int availableSlots;
+    private int bookedSlots;
+    private double utilization;
+    
+    // Constructors
+    public InterviewerUtilization() {
+    }
+    
+    public InterviewerUtilization(String interviewerEmail, int availableSlots, int bookedSlots, double utilization) {
+        this.interviewerEmail = interviewerEmail;
+        this.availableSlots = availableSlots;
+        this.bookedSlots = bookedSlots;
+        this.utilization = utilization;
+    }
+    
+    // Getters and Setters
+    public String getInterviewerEmail() {
+        return interviewerEmail;
+    }
+    
+    public void setInterviewerEmail(String interviewerEmail) {
+        this.interviewerEmail = interviewerEmail;
+    }
+    
+    public int getAvailableSlots() {
+        return availableSlots;
+    }
+    
+    public void setAvailableSlots(int availableSlots) {
+        this.availableSlots = availableSlots;
+    }
+    
+    public int getBookedSlots() {
+        return bookedSlots;
+    }
+    
+    public void setBookedSlots(int bookedSlots) {
+        this.bookedSlots = bookedSlots;
+    }
+    
+    public double getUtilization() {
+        return utilization;
+    }
+    
+    public void setUtilization(double utilization) {
+        this.utilization = utilization;
+    }
+}
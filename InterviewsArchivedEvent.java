@@ -0,0 +1,27 @@
+package com.interview.scheduler.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published when a chunk of expired interviews has been moved to the archive,
+ * inside the transaction that moved them
+ */
+public class InterviewsArchivedEvent {
+
+    private final List<Long> interviewIds;
+    private final LocalDateTime latestStartTime;
+
+    public InterviewsArchivedEvent(List<Long> interviewIds, LocalDateTime latestStartTime) {
+        this.interviewIds = interviewIds;
+        this.latestStartTime = latestStartTime;
+    }
+
+    public List<Long> getInterviewIds() {
+        return interviewIds;
+    }
+
+    public LocalDateTime getLatestStartTime() {
+        return latestStartTime;
+    }
+}
@@ -0,0 +1,23 @@
+package com.interview.scheduler.event;
+
+import com.interview.scheduler.model.Interview;
+
+import java.util.List;
+
+/**
+ * Published by the outbox relay, on its own thread, with the current rows of the
+ * interviews whose changes it just read from the outbox. The outbox is shared by all
+ * instances, so in-memory views use it to pick up changes made through other ones.
+ */
+public class InterviewsRelayedEvent {
+
+    private final List<Interview> interviews;
+
+    public InterviewsRelayedEvent(List<Interview> interviews) {
+        this.interviews = interviews;
+    }
+
+    public List<Interview> getInterviews() {
+        return interviews;
+    }
+}
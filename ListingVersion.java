@@ -0,0 +1,58 @@
+package com.interview.scheduler.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap fingerprint of a listing: how many rows it has, when the newest of them
+ * changed and the sum of their versions. Any insert, update or removal changes it.
+ */
+public class ListingVersion {
+
+    private long count;
+    private LocalDateTime lastUpdated;
+    private long versionSum;
+
+    // Constructors
+    public ListingVersion() {
+    }
+
+    public ListingVersion(Long count, LocalDateTime lastUpdated, Long versionSum) {
+        this.count = count != null ? count : 0;
+        this.lastUpdated = lastUpdated;
+        this.versionSum = versionSum != null ? versionSum : 0;
+    }
+
+    /**
+     * Fingerprint of this listing and another one read alongside it
+     */
+    public ListingVersion plus(ListingVersion other) {
+        LocalDateTime latest = lastUpdated == null
+            || (other.lastUpdated != null && other.lastUpdated.isAfter(lastUpdated)) ? other.lastUpdated : lastUpdated;
+        return new ListingVersion(count + other.count, latest, versionSum + other.versionSum);
+    }
+
+    // Getters and Setters
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public LocalDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+
+    public void setLastUpdated(LocalDateTime lastUpdated) {
+        this.lastUpdated = lastUpdated;
+    }
+
+    public long getVersionSum() {
+        return versionSum;
+    }
+
+    public void setVersionSum(long versionSum) {
+        this.versionSum = versionSum;
+    }
+}
@@ -0,0 +1,123 @@
+package com.interview.scheduler.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change to an interview, written in the same transaction as the change itself.
+ *
+ * Rows are inserted without a position. The relay numbers them in the order their
+ * transactions became visible, and that gap-free position is the event id stream
+ * clients resume from, so a late commit can never slip in behind a delivered id.
+ */
+@Entity
+@Table(name = "interview_outbox", indexes = {
+    @Index(name = "idx_interview_outbox_position", columnList = "position", unique = true),
+    @Index(name = "idx_interview_outbox_interviewer_position", columnList = "interviewer_email, position")
+})
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    private Long position;
+    
+    @Column(nullable = false, length = 32)
+    private String eventType;
+    
+    @Column(nullable = false)
+    private Long interviewId;
+    
+    @Column(nullable = false)
+    private String interviewerEmail;
+    
+    @Column(nullable = false)
+    private String candidateEmail;
+    
+    @Column(nullable = false, length = 4000)
+    private String payload;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public OutboxEvent() {
+    }
+    
+    public OutboxEvent(String eventType, Long interviewId, String interviewerEmail,
+                       String candidateEmail, String payload, LocalDateTime createdAt) {
+        this.eventType = eventType;
+        this.interviewId = interviewId;
+        this.interviewerEmail = interviewerEmail;
+        this.candidateEmail = candidateEmail;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getPosition() {
+        return position;
+    }
+    
+    public void setPosition(Long position) {
+        this.position = position;
+    }
+    
+    public String getEventType() {
+        return eventType;
+    }
+    
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+    
+    public Long getInterviewId() {
+        return interviewId;
+    }
+    
+    public void setInterviewId(Long interviewId) {
+        this.interviewId = interviewId;
+    }
+    
+    public String getInterviewerEmail() {
+        return interviewerEmail;
+    }
+    
+    public void setInterviewerEmail(String interviewerEmail) {
+        this.interviewerEmail = interviewerEmail;
+    }
+    
+    public String getCandidateEmail() {
+        return candidateEmail;
+    }
+    
+    public void setCandidateEmail(String candidateEmail) {
+        this.candidateEmail = candidateEmail;
+    }
+    
+    public String getPayload() {
+        return payload;
+    }
+    
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
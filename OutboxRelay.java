@@ -0,0 +1,195 @@
+package com.interview.scheduler.service.outbox;
+
+import com.interview.scheduler.event.InterviewsRelayedEvent;
+import com.interview.scheduler.metrics.InterviewMetrics;
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.model.OutboxEvent;
+import com.interview.scheduler.repository.InterviewRepository;
+import com.interview.scheduler.repository.OutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the outbox into the interview stream.
+ *
+ * Each run first numbers newly committed outbox rows, one batch per transaction,
+ * then reads everything positioned since the previous run and hands it to the
+ * stream. Every instance numbers and reads the same table, so subscribers of any
+ * instance see the changes made through all of them. The rows of the interviews
+ * read are then reloaded and published as an {@link InterviewsRelayedEvent}, which
+ * keeps the in-memory views of this instance current with the other instances.
+ *
+ * The relay runs on a thread of its own rather than the shared scheduling pool, so
+ * a long archival run or migration never delays the stream.
+ */
+@Component
+public class OutboxRelay implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    // How long shutdown waits for a run in flight to finish
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final OutboxRepository outboxRepository;
+    private final InterviewRepository interviewRepository;
+    private final InterviewStream stream;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InterviewMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final ScheduledExecutorService relayThread;
+
+    // Highest position handed to the stream; only read and written by the relay thread
+    private long delivered = -1;
+
+    @Autowired
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       InterviewRepository interviewRepository,
+                       InterviewStream stream,
+                       ApplicationEventPublisher eventPublisher,
+                       InterviewMetrics metrics,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${interview.outbox.retention:P1D}") Duration retention,
+                       @Value("${interview.outbox.batch-size:500}") int batchSize,
+                       @Value("${interview.outbox.poll-interval:PT0.5S}") Duration pollInterval) {
+        if (retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("Outbox retention must be positive, got " + retention);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Outbox batch size must be positive, got " + batchSize);
+        }
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("Outbox poll interval must be positive, got " + pollInterval);
+        }
+        this.outboxRepository = outboxRepository;
+        this.interviewRepository = interviewRepository;
+        this.stream = stream;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.relayThread = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long delayNanos = pollInterval.toNanos();
+        relayThread.scheduleWithFixedDelay(this::relaySafely, delayNanos, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop before the context destroys any beans, so a run in flight cannot reach
+     * the repositories or listeners while they are torn down
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        relayThread.shutdownNow();
+        try {
+            if (!relayThread.awaitTermination(SHUTDOWN_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)) {
+                log.warn("Outbox relay run still in flight after {}", SHUTDOWN_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // A failed run must not cancel the ones after it
+    private void relaySafely() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.error("Outbox relay run failed", e);
+        }
+    }
+
+    public void relay() {
+        if (delivered < 0) {
+            delivered = outboxRepository.findMaxPosition();
+        }
+        positionCommitted();
+
+        List<OutboxEvent> events;
+        do {
+            events = outboxRepository.findBetween(delivered, Long.MAX_VALUE, null, batchSize);
+            long upTo = events.isEmpty() ? delivered : events.get(events.size() - 1).getPosition();
+            stream.deliver(events, delivered, upTo);
+            delivered = upTo;
+            publishRelayed(events);
+        } while (events.size() == batchSize);
+    }
+
+    /**
+     * Delete delivered events older than the retention; clients resuming from before
+     * them are told to reload instead
+     */
+    @Scheduled(initialDelayString = "${interview.outbox.prune-interval:PT10M}",
+               fixedDelayString = "${interview.outbox.prune-interval:PT10M}")
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int deleted = outboxRepository.deletePublishedBefore(cutoff);
+        log.info("Pruned {} outbox events created before {}", deleted, cutoff);
+    }
+
+    /**
+     * Reload the interviews the events are about rather than trusting the payloads:
+     * the rows hold the latest committed state, and the views skip anything older
+     * than what they already hold, so the order events arrive in does not matter
+     */
+    private void publishRelayed(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        events.forEach(event -> ids.add(event.getInterviewId()));
+        List<Interview> interviews = interviewRepository.findAllById(ids);
+        eventPublisher.publishEvent(new InterviewsRelayedEvent(interviews));
+    }
+
+    private void positionCommitted() {
+        int positioned;
+        do {
+            try {
+                positioned = transactionTemplate.execute(status -> {
+                    List<Long> ids = outboxRepository.lockUnpositioned(batchSize);
+                    if (!ids.isEmpty()) {
+                        outboxRepository.assignPositions(ids);
+                    }
+                    return ids.size();
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Another instance numbered a batch at the same time; its rows show up below
+                log.debug("Outbox positions taken concurrently, retrying next run", e);
+                return;
+            }
+            metrics.recordOutboxRelayed(positioned);
+        } while (positioned == batchSize);
+    }
+}
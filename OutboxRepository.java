@@ -0,0 +1,125 @@
+package com.interview.scheduler.repository;
+
+import com.interview.scheduler.model.OutboxEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC access to the interview_outbox table. Inserts run inside the transaction
+ * of the change they describe; positions are assigned by the relay.
+ */
+@Repository
+public class OutboxRepository {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO interview_outbox (event_type, interview_id, interviewer_email, candidate_email, payload, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String LOCK_UNPOSITIONED =
+            "SELECT id FROM interview_outbox WHERE position IS NULL ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final String ASSIGN_POSITION =
+            "UPDATE interview_outbox SET position = ? WHERE id = ?";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, position, event_type, interview_id, interviewer_email, candidate_email, payload, created_at " +
+            "FROM interview_outbox ";
+
+    // Keeps the newest positioned row so positions keep counting up after a quiet period
+    private static final String DELETE_PUBLISHED_BEFORE =
+            "DELETE FROM interview_outbox WHERE position IS NOT NULL AND created_at < ? " +
+            "AND position < (SELECT MAX(position) FROM interview_outbox)";
+
+    private static final RowMapper<OutboxEvent> EVENT_MAPPER = (rs, rowNum) -> {
+        OutboxEvent event = new OutboxEvent(
+            rs.getString("event_type"),
+            rs.getLong("interview_id"),
+            rs.getString("interviewer_email"),
+            rs.getString("candidate_email"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+        event.setId(rs.getLong("id"));
+        event.setPosition(rs.getLong("position"));
+        return event;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public OutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<OutboxEvent> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            rows.add(new Object[] {event.getEventType(), event.getInterviewId(), event.getInterviewerEmail(),
+                                   event.getCandidateEmail(), event.getPayload(), Timestamp.valueOf(event.getCreatedAt())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+    }
+
+    /**
+     * Lock and return the ids of up to limit committed events that have no position yet, oldest first
+     */
+    public List<Long> lockUnpositioned(int limit) {
+        return jdbcTemplate.queryForList(LOCK_UNPOSITIONED, Long.class, limit);
+    }
+
+    /**
+     * Number the events consecutively after the highest position assigned so far.
+     * Returns that highest position, which is 0 while no event has been positioned.
+     *
+     * Two relays numbering at once collide on the unique position index; the loser
+     * gets a DataIntegrityViolationException and its transaction must roll back.
+     */
+    public long assignPositions(List<Long> ids) {
+        long position = findMaxPosition();
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            rows.add(new Object[] {++position, id});
+        }
+        jdbcTemplate.batchUpdate(ASSIGN_POSITION, rows);
+        return position;
+    }
+
+    public long findMaxPosition() {
+        Long position = jdbcTemplate.queryForObject("SELECT MAX(position) FROM interview_outbox", Long.class);
+        return position != null ? position : 0;
+    }
+
+    /**
+     * The lowest position still kept, or null if no event has been positioned
+     */
+    public Long findMinPosition() {
+        return jdbcTemplate.queryForObject("SELECT MIN(position) FROM interview_outbox", Long.class);
+    }
+
+    /**
+     * Up to limit events positioned in (after, upTo], in position order, optionally
+     * only those of one interviewer
+     */
+    public List<OutboxEvent> findBetween(long after, long upTo, String interviewerEmail, int limit) {
+        if (interviewerEmail == null) {
+            return jdbcTemplate.query(SELECT_COLUMNS + "WHERE position > ? AND position <= ? ORDER BY position LIMIT ?",
+                                      EVENT_MAPPER, after, upTo, limit);
+        }
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE interviewer_email = ? AND position > ? AND position <= ? " +
+                                  "ORDER BY position LIMIT ?",
+                                  EVENT_MAPPER, interviewerEmail, after, upTo, limit);
+    }
+
+    /**
+     * Delete positioned events created before the cutoff. Returns how many were deleted.
+     */
+    public int deletePublishedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_PUBLISHED_BEFORE, Timestamp.valueOf(cutoff));
+    }
+}
@@ -0,0 +1,88 @@
+package com.interview.scheduler.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.scheduler.event.InterviewChangedEvent;
+import com.interview.scheduler.mapper.InterviewMapper;
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.model.OutboxEvent;
+import com.interview.scheduler.model.Participant;
+import com.interview.scheduler.repository.OutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Records every interview change in the outbox as part of the transaction that makes it.
+ *
+ * Changes are collected while the transaction runs and inserted in one batch just
+ * before it commits, so a batch booking writes its outbox rows in a single round trip
+ * and a rollback leaves no event behind.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OutboxWriter(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // A plain listener runs synchronously inside the publishing transaction
+    @EventListener
+    public void onInterviewChanged(InterviewChangedEvent event) {
+        OutboxEvent outboxEvent = toOutboxEvent(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRepository.insertAll(List.of(outboxEvent));
+            return;
+        }
+        pendingEvents().add(outboxEvent);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxEvent> pendingEvents() {
+        List<OutboxEvent> pending = (List<OutboxEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<OutboxEvent> events = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, events);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                outboxRepository.insertAll(events);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+            }
+        });
+        return events;
+    }
+
+    private OutboxEvent toOutboxEvent(InterviewChangedEvent event) {
+        Interview interview = event.getInterview();
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(InterviewMapper.toResponse(interview));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize interview " + interview.getId(), e);
+        }
+        // Emails are stored normalized so stream filters match however a request spelled them
+        return new OutboxEvent(event.getChange().name().toLowerCase(Locale.ROOT), interview.getId(),
+                               Participant.normalizeEmail(interview.getInterviewerEmail()),
+                               Participant.normalizeEmail(interview.getCandidateEmail()),
+                               payload, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,55 @@
+package com.interview.scheduler.dto;
+
+import com.interview.scheduler.exception.BadRequestException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Keyset pagination position: the (startTime, id) of the last row of the previous page.
+ * Serialized as "startTime,id", e.g. "2024-05-01T10:00:00,42".
+ */
+public class PageCursor {
+
+    private final LocalDateTime startTime;
+    private final Long id;
+
+    public PageCursor(LocalDateTime startTime, Long id) {
+        this.startTime = startTime;
+        this.id = id;
+    }
+
+    /**
+     * Parse a cursor string, returning null when no cursor was given
+     */
+    public static PageCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int separator = value.lastIndexOf(',');
+        if (separator < 0) {
+            throw new BadRequestException("Invalid cursor: " + value);
+        }
+        try {
+            return new PageCursor(
+                LocalDateTime.parse(value.substring(0, separator).trim()),
+                Long.parseLong(value.substring(separator + 1).trim())
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor: " + value);
+        }
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return startTime + "," + id;
+    }
+}
@@ -0,0 +1,43 @@
+package com.interview.scheduler.dto;
+
+import jakarta.validation.constraints.*;
+
+/**
+ * An interviewer joining the primary interviewer of a panel interview
+ */
+public class PanelInterviewer {
+    
+    @NotBlank(message = "Interviewer name is required")
+    @Size(min = 2, max = 100, message = "Interviewer name must be between 2 and 100 characters")
+    private String interviewerName;
+    
+    @NotBlank(message = "Interviewer email is required")
+    @Email(message = "Invalid interviewer email format")
+    private String interviewerEmail;
+    
+    // Constructors
+    public PanelInterviewer() {
+    }
+    
+    public PanelInterviewer(String interviewerName, String interviewerEmail) {
+        this.interviewerName = interviewerName;
+        this.interviewerEmail = interviewerEmail;
+    }
+    
+    // Getters and Setters
+    public String getInterviewerName() {
+        return interviewerName;
+    }
+    
+    public void setInterviewerName(String interviewerName) {
+        this.interviewerName = interviewerName;
+    }
+    
+    public String getInterviewerEmail() {
+        return interviewerEmail;
+    }
+    
+    public void setInterviewerEmail(String interviewerEmail) {
+        this.interviewerEmail = interviewerEmail;
+    }
+}
@@ -0,0 +1,59 @@
+package com.interview.scheduler.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * Creates conflict lookup indexes restricted to non-cancelled interviews.
+ * JPA cannot declare partial indexes, so these are only added on PostgreSQL;
+ * other databases rely on the full indexes declared on the entity.
+ */
+@Component
+public class PartialIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(PartialIndexInitializer.class);
+
+    private static final List<String> POSTGRES_INDEXES = List.of(
+        "CREATE INDEX IF NOT EXISTS idx_interviews_interviewer_id_active " +
+        "ON interviews (interviewer_id, start_time, end_time) WHERE status <> 'CANCELLED'",
+        "CREATE INDEX IF NOT EXISTS idx_interviews_candidate_id_active " +
+        "ON interviews (candidate_id, start_time, end_time) WHERE status <> 'CANCELLED'"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public PartialIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createPartialIndexes() {
+        String databaseProduct;
+        try {
+            databaseProduct = JdbcUtils.extractDatabaseMetaData(
+                jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not determine database type, skipping partial indexes", e);
+            return;
+        }
+
+        if (!"PostgreSQL".equalsIgnoreCase(databaseProduct)) {
+            log.info("Partial indexes not supported on {}, using full indexes only", databaseProduct);
+            return;
+        }
+
+        POSTGRES_INDEXES.forEach(jdbcTemplate::execute);
+        log.info("Partial conflict indexes ensured on PostgreSQL");
+    }
+}
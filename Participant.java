@@ -0,0 +1,82 @@
+package com.interview.scheduler.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * An interviewer or candidate, identified by their normalized email.
+ *
+ * Interviews reference participants by id, so conflict and listing lookups compare
+ * and index 8-byte keys instead of repeating the email string in every row and index.
+ */
+@Entity
+@Table(name = "participants",
+       uniqueConstraints = @UniqueConstraint(name = "uk_participants_email", columnNames = "email"))
+public class Participant {
+
+    /**
+     * Id no participant ever has; stands in for an unknown email so lookups match nothing
+     */
+    public static final long NO_ID = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String email;
+
+    // Name given when the participant was first seen; interviews keep their own copy
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public Participant() {
+    }
+
+    /**
+     * The form emails are stored and matched in, so differently cased spellings
+     * of one address are one participant
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.interview.scheduler.service.availability;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Busy intervals of a set of interviewers and candidates, each list sorted by start
+ */
+public class ParticipantBusy {
+
+    private final Map<String, List<TimeWindow>> interviewers;
+    private final Map<String, List<TimeWindow>> candidates;
+
+    ParticipantBusy(Map<String, List<TimeWindow>> interviewers, Map<String, List<TimeWindow>> candidates) {
+        this.interviewers = interviewers;
+        this.candidates = candidates;
+    }
+
+    public List<TimeWindow> ofInterviewer(String interviewerEmail) {
+        return interviewers.getOrDefault(interviewerEmail, List.of());
+    }
+
+    public List<TimeWindow> ofCandidate(String candidateEmail) {
+        return candidates.getOrDefault(candidateEmail, List.of());
+    }
+
+    /**
+     * Every participant's list, interviewers first
+     */
+    public List<List<TimeWindow>> all() {
+        List<List<TimeWindow>> all = new ArrayList<>(interviewers.values());
+        all.addAll(candidates.values());
+        return all;
+    }
+}
@@ -0,0 +1,103 @@
+package com.interview.scheduler.service.availability;
+
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.model.Participant;
+import com.interview.scheduler.repository.InterviewRepository;
+import com.interview.scheduler.service.index.InterviewConflictIndex;
+import com.interview.scheduler.service.participant.ParticipantDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the busy intervals of many participants at once, from the in-memory
+ * index once it is warm and from a single non-locking query before that
+ */
+@Component
+public class ParticipantBusyLookup {
+
+    private final InterviewConflictIndex conflictIndex;
+    private final InterviewRepository interviewRepository;
+    private final ParticipantDirectory participantDirectory;
+
+    @Autowired
+    public ParticipantBusyLookup(InterviewConflictIndex conflictIndex, InterviewRepository interviewRepository,
+                                 ParticipantDirectory participantDirectory) {
+        this.conflictIndex = conflictIndex;
+        this.interviewRepository = interviewRepository;
+        this.participantDirectory = participantDirectory;
+    }
+
+    /**
+     * Busy intervals overlapping [startTime, endTime) of each given interviewer and candidate
+     */
+    public ParticipantBusy find(Collection<String> interviewerEmails, Collection<String> candidateEmails,
+                                LocalDateTime startTime, LocalDateTime endTime) {
+        Map<String, List<TimeWindow>> interviewers = new LinkedHashMap<>();
+        Map<String, List<TimeWindow>> candidates = new LinkedHashMap<>();
+        if (conflictIndex.isReady()) {
+            for (String email : interviewerEmails) {
+                interviewers.put(email, toWindows(conflictIndex.findInterviewerInterviews(email, startTime, endTime)));
+            }
+            for (String email : candidateEmails) {
+                candidates.put(email, toWindows(conflictIndex.findCandidateInterviews(email, startTime, endTime)));
+            }
+            return new ParticipantBusy(interviewers, candidates);
+        }
+
+        // Keyed by normalized email, which rows still waiting for their participant ids match on too;
+        // spellings of one email share the same list
+        Map<String, List<TimeWindow>> interviewerBusyByEmail = new HashMap<>();
+        Map<String, List<TimeWindow>> candidateBusyByEmail = new HashMap<>();
+        for (String email : interviewerEmails) {
+            interviewers.put(email, interviewerBusyByEmail.computeIfAbsent(Participant.normalizeEmail(email),
+                                                                           key -> new ArrayList<>()));
+        }
+        for (String email : candidateEmails) {
+            candidates.put(email, candidateBusyByEmail.computeIfAbsent(Participant.normalizeEmail(email),
+                                                                       key -> new ArrayList<>()));
+        }
+        Map<String, Long> participantIds = participantDirectory.findIds(
+            new ArrayList<>(interviewerBusyByEmail.keySet()));
+        participantIds.putAll(participantDirectory.findIds(new ArrayList<>(candidateBusyByEmail.keySet())));
+        List<Long> interviewerIds = new ArrayList<>();
+        interviewerBusyByEmail.keySet().forEach(email -> interviewerIds.add(participantIds.get(email)));
+        List<Long> candidateIds = new ArrayList<>();
+        candidateBusyByEmail.keySet().forEach(email -> candidateIds.add(participantIds.get(email)));
+        for (Interview interview : interviewRepository.findParticipantConflicts(
+                interviewerIds, candidateIds, interviewerBusyByEmail.keySet(), candidateBusyByEmail.keySet(),
+                startTime, endTime)) {
+            TimeWindow window = new TimeWindow(interview.getStartTime(), interview.getEndTime());
+            List<TimeWindow> interviewerBusy = interviewerBusyByEmail.get(
+                Participant.normalizeEmail(interview.getInterviewerEmail()));
+            if (interviewerBusy != null) {
+                interviewerBusy.add(window);
+            }
+            List<TimeWindow> candidateBusy = candidateBusyByEmail.get(
+                Participant.normalizeEmail(interview.getCandidateEmail()));
+            if (candidateBusy != null) {
+                candidateBusy.add(window);
+            }
+        }
+        interviewerBusyByEmail.values().forEach(busy -> busy.sort(Comparator.comparing(TimeWindow::getStart)));
+        candidateBusyByEmail.values().forEach(busy -> busy.sort(Comparator.comparing(TimeWindow::getStart)));
+        return new ParticipantBusy(interviewers, candidates);
+    }
+
+    // Index results are already in start order
+    private List<TimeWindow> toWindows(List<Interview> interviews) {
+        List<TimeWindow> windows = new ArrayList<>(interviews.size());
+        for (Interview interview : interviews) {
+            windows.add(new TimeWindow(interview.getStartTime(), interview.getEndTime()));
+        }
+        return windows;
+    }
+}
@@ -0,0 +1,147 @@
+package com.interview.scheduler.service.participant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.scheduler.model.Participant;
+import com.interview.scheduler.repository.ParticipantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps participant emails to participant ids through an in-memory cache.
+ *
+ * An email's id never changes, so cached entries need no invalidation. Participants
+ * are created inside the caller's transaction and only cached once it commits; until
+ * then the transaction sees its own ids, and a rollback leaves no id in the cache
+ * that the table does not hold.
+ */
+@Component
+public class ParticipantDirectory {
+
+    private final ParticipantRepository participantRepository;
+    private final Cache<String, Long> ids;
+
+    @Autowired
+    public ParticipantDirectory(ParticipantRepository participantRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${interview.participants.cache.maximum-size:100000}") long cacheMaximumSize) {
+        this.participantRepository = participantRepository;
+        this.ids = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, ids, "interviews.participants");
+    }
+
+    /**
+     * Id of the participant with this email, or {@link Participant#NO_ID} if there is none
+     */
+    public long findId(String email) {
+        return findIds(List.of(email)).get(Participant.normalizeEmail(email));
+    }
+
+    /**
+     * Ids keyed by normalized email; emails without a participant map to {@link Participant#NO_ID}
+     */
+    public Map<String, Long> findIds(Collection<String> emails) {
+        Map<String, Long> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String email : emails) {
+            String normalized = Participant.normalizeEmail(email);
+            Long id = lookup(normalized);
+            if (id != null) {
+                found.put(normalized, id);
+            } else if (!found.containsKey(normalized)) {
+                found.put(normalized, Participant.NO_ID);
+                missing.add(normalized);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<String, Long> loaded = participantRepository.findIds(missing);
+            found.putAll(loaded);
+            remember(loaded);
+        }
+        return found;
+    }
+
+    /**
+     * Ids of the given participants keyed by normalized email, creating the ones not
+     * seen before with the given names. Joins the current transaction, if any.
+     */
+    public Map<String, Long> resolve(Map<String, String> namesByEmail) {
+        Map<String, Long> resolved = new HashMap<>();
+        Map<String, String> missing = new LinkedHashMap<>();
+        namesByEmail.forEach((email, name) -> {
+            String normalized = Participant.normalizeEmail(email);
+            Long id = lookup(normalized);
+            if (id != null) {
+                resolved.put(normalized, id);
+            } else {
+                missing.putIfAbsent(normalized, name);
+            }
+        });
+        if (!missing.isEmpty()) {
+            Map<String, Long> created = participantRepository.insertMissing(missing, LocalDateTime.now());
+            resolved.putAll(created);
+            remember(created);
+        }
+        return resolved;
+    }
+
+    private Long lookup(String email) {
+        Long id = ids.getIfPresent(email);
+        if (id == null) {
+            Map<String, Long> pending = pendingIds();
+            if (pending != null) {
+                id = pending.get(email);
+            }
+        }
+        return id;
+    }
+
+    private void remember(Map<String, Long> loaded) {
+        Map<String, Long> pending = pendingIds();
+        if (pending != null) {
+            pending.putAll(loaded);
+        } else {
+            ids.putAll(loaded);
+        }
+    }
+
+    // Ids read or created by the current transaction, or null outside one
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> pendingIds() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<String, Long> pending = (Map<String, Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<String, Long> created = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ParticipantDirectory.this);
+                if (status == STATUS_COMMITTED) {
+                    ids.putAll(created);
+                }
+            }
+        });
+        return created;
+    }
+}
@@ -0,0 +1,134 @@
+package com.interview.scheduler.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Links interviews written before participants existed to their participants.
+ *
+ * Creates a participant for every normalized email still only found in the email
+ * columns and fills in the missing participant ids a chunk of rows at a time, so no
+ * statement holds many row locks. Runs once all beans (and so the schema) are ready,
+ * before the web server accepts requests, and then periodically, so rows that
+ * instances of older versions write during a rolling upgrade are linked as well.
+ * Every step skips work already done, so reruns are cheap.
+ *
+ * Older instances look rows up by email, so the email indexes the id indexes replace
+ * are only dropped once contracting is enabled and every row is linked.
+ */
+@Component
+public class ParticipantMigration implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticipantMigration.class);
+
+    private static final List<String> TABLES = List.of("interviews", "interviews_archive");
+
+    private static final List<String> SUPERSEDED_INDEXES = List.of(
+        "idx_interviews_interviewer_time",
+        "idx_interviews_candidate_time",
+        "idx_interviews_interviewer_active",
+        "idx_interviews_candidate_active",
+        "idx_interviews_archive_interviewer_time",
+        "idx_interviews_archive_candidate_time"
+    );
+
+    private static final String UNLINKED = "(interviewer_id IS NULL OR candidate_id IS NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final boolean contract;
+    private boolean contracted;
+
+    @Autowired
+    public ParticipantMigration(JdbcTemplate jdbcTemplate,
+                                @Value("${interview.participants.migration.batch-size:10000}") int batchSize,
+                                @Value("${interview.participants.migration.contract:false}") boolean contract) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Participant migration batch size must be positive, got " + batchSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.contract = contract;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    /**
+     * Link the rows written since the last run, then contract if that is now safe
+     */
+    @Scheduled(initialDelayString = "${interview.participants.migration.interval:PT1M}",
+               fixedDelayString = "${interview.participants.migration.interval:PT1M}")
+    public void backfill() {
+        migrate();
+    }
+
+    private synchronized void migrate() {
+        boolean unlinked = false;
+        for (String table : TABLES) {
+            int created = createParticipants(table, "interviewer") + createParticipants(table, "candidate");
+            int linked = linkParticipants(table);
+            if (created > 0 || linked > 0) {
+                log.info("Created {} participants and linked {} rows of {}", created, linked, table);
+            }
+            unlinked |= hasUnlinkedRows(table);
+        }
+        if (contract && !contracted) {
+            if (unlinked) {
+                log.info("Keeping the email indexes until every interview is linked to its participants");
+            } else {
+                SUPERSEDED_INDEXES.forEach(index -> jdbcTemplate.execute("DROP INDEX IF EXISTS " + index));
+                contracted = true;
+            }
+        }
+    }
+
+    private int createParticipants(String table, String role) {
+        return jdbcTemplate.update(
+            "INSERT INTO participants (email, name, created_at) " +
+            "SELECT LOWER(TRIM(" + role + "_email)), MAX(" + role + "_name), CURRENT_TIMESTAMP FROM " + table + " " +
+            "WHERE " + role + "_id IS NULL GROUP BY LOWER(TRIM(" + role + "_email)) " +
+            "ON CONFLICT DO NOTHING");
+    }
+
+    /**
+     * Fill in the missing ids one chunk of ids at a time. Rows written after their
+     * participants were created stay unlinked until the next run, and paging by id
+     * makes sure they are passed over instead of being picked up again.
+     */
+    private int linkParticipants(String table) {
+        String chunkEnd =
+            "SELECT MAX(id) FROM (SELECT id FROM " + table + " WHERE " + UNLINKED + " AND id > ? " +
+            "ORDER BY id LIMIT ?) chunk";
+        String update =
+            "UPDATE " + table + " SET " +
+            "interviewer_id = COALESCE(interviewer_id, " +
+            "(SELECT p.id FROM participants p WHERE p.email = LOWER(TRIM(" + table + ".interviewer_email)))), " +
+            "candidate_id = COALESCE(candidate_id, " +
+            "(SELECT p.id FROM participants p WHERE p.email = LOWER(TRIM(" + table + ".candidate_email)))) " +
+            "WHERE " + UNLINKED + " AND id > ? AND id <= ?";
+        int linked = 0;
+        long after = Long.MIN_VALUE;
+        Long last;
+        while ((last = jdbcTemplate.queryForObject(chunkEnd, Long.class, after, batchSize)) != null) {
+            linked += jdbcTemplate.update(update, after, last);
+            after = last;
+        }
+        return linked;
+    }
+
+    private boolean hasUnlinkedRows(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + table + " WHERE " + UNLINKED + ")", Boolean.class));
+    }
+}
@@ -0,0 +1,63 @@
+package com.interview.scheduler.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to the participants table. Emails must already be normalized.
+ */
+@Repository
+public class ParticipantRepository {
+
+    // An email inserted concurrently waits for that transaction and is then skipped, never fails
+    private static final String INSERT_PARTICIPANT =
+            "INSERT INTO participants (email, name, created_at) VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ParticipantRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Ids of the given emails; emails without a participant are left out
+     */
+    public Map<String, Long> findIds(Collection<String> emails) {
+        Map<String, Long> ids = new HashMap<>();
+        if (emails.isEmpty()) {
+            return ids;
+        }
+        String in = String.join(", ", Collections.nCopies(emails.size(), "?"));
+        jdbcTemplate.query("SELECT email, id FROM participants WHERE email IN (" + in + ")",
+                           rs -> { ids.put(rs.getString("email"), rs.getLong("id")); },
+                           emails.toArray());
+        return ids;
+    }
+
+    /**
+     * Insert every email not yet known, keyed to its name, and return the ids of all of them.
+     * Rows are inserted in email order so concurrent callers wait on each other instead of deadlocking.
+     */
+    public Map<String, Long> insertMissing(Map<String, String> namesByEmail, LocalDateTime createdAt) {
+        List<String> emails = new ArrayList<>(namesByEmail.keySet());
+        Collections.sort(emails);
+        Timestamp created = Timestamp.valueOf(createdAt);
+        List<Object[]> rows = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            rows.add(new Object[] {email, namesByEmail.get(email), created});
+        }
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT, rows);
+        return findIds(emails);
+    }
+}
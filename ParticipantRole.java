@@ -0,0 +1,6 @@
+package com.interview.scheduler.model;
+
+public enum ParticipantRole {
+    INTERVIEWER,
+    CANDIDATE
+}
@@ -0,0 +1,168 @@
+package com.interview.scheduler.service.index;
+
+import com.interview.scheduler.model.Interview;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Interviews of a single participant in an interval tree.
+ *
+ * The interviews sit in an AVL tree ordered by start time, and every node also
+ * keeps the latest end time in its subtree. Overlap queries skip any subtree that
+ * ends before the range and stop at the first interview starting after it, so a
+ * lookup costs O(log n + k) no matter how long some of the interviews are.
+ */
+public class ParticipantSchedule {
+
+    private static final Comparator<Interview> BY_START = Comparator
+            .comparing(Interview::getStartTime)
+            .thenComparing(Interview::getId);
+
+    private Node root;
+
+    public synchronized void add(Interview interview) {
+        root = insert(root, interview);
+    }
+
+    public synchronized void remove(Interview interview) {
+        root = delete(root, interview);
+    }
+
+    public synchronized boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Interviews overlapping [startTime, endTime), in start order
+     */
+    public synchronized List<Interview> findOverlapping(LocalDateTime startTime, LocalDateTime endTime) {
+        List<Interview> overlapping = new ArrayList<>();
+        collect(root, startTime, endTime, overlapping);
+        return overlapping;
+    }
+
+    private static void collect(Node node, LocalDateTime startTime, LocalDateTime endTime, List<Interview> overlapping) {
+        if (node == null || !node.maxEnd.isAfter(startTime)) {
+            return;
+        }
+        collect(node.left, startTime, endTime, overlapping);
+        if (!node.interview.getStartTime().isBefore(endTime)) {
+            // This interview and the whole right subtree start too late
+            return;
+        }
+        if (node.interview.getEndTime().isAfter(startTime)) {
+            overlapping.add(node.interview);
+        }
+        collect(node.right, startTime, endTime, overlapping);
+    }
+
+    private static Node insert(Node node, Interview interview) {
+        if (node == null) {
+            return new Node(interview);
+        }
+        int order = BY_START.compare(interview, node.interview);
+        if (order < 0) {
+            node.left = insert(node.left, interview);
+        } else if (order > 0) {
+            node.right = insert(node.right, interview);
+        } else {
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, Interview interview) {
+        if (node == null) {
+            return null;
+        }
+        int order = BY_START.compare(interview, node.interview);
+        if (order < 0) {
+            node.left = delete(node.left, interview);
+        } else if (order > 0) {
+            node.right = delete(node.right, interview);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // Replace the node with its successor, the leftmost node on the right
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replacement = new Node(successor.interview);
+            replacement.left = node.left;
+            replacement.right = delete(node.right, successor.interview);
+            node = replacement;
+        }
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+        private final Interview interview;
+        private Node left;
+        private Node right;
+        private int height;
+        // Latest end time of any interview in this subtree
+        private LocalDateTime maxEnd;
+
+        private Node(Interview interview) {
+            this.interview = interview;
+            update();
+        }
+
+        private void update() {
+            height = Math.max(height(left), height(right)) + 1;
+            maxEnd = interview.getEndTime();
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
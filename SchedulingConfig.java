@@ -0,0 +1,12 @@
+package com.interview.scheduler.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs background jobs such as the interview archival
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
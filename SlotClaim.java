@@ -0,0 +1,87 @@
+package com.interview.scheduler.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A participant's claim on one fixed-size time bucket, held on behalf of an interview.
+ * The unique constraint makes two interviews claiming the same bucket impossible.
+ */
+@Entity
+@Table(name = "slot_claims",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_slot_claims_participant_bucket",
+           columnNames = {"participant_role", "participant_email", "bucket_start"}),
+       indexes = @Index(name = "idx_slot_claims_interview", columnList = "interview_id"))
+public class SlotClaim {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "participant_role", nullable = false, length = 20)
+    private ParticipantRole participantRole;
+
+    @Column(name = "participant_email", nullable = false)
+    private String participantEmail;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "interview_id", nullable = false)
+    private Long interviewId;
+
+    // Constructors
+    public SlotClaim() {
+    }
+
+    public SlotClaim(ParticipantRole participantRole, String participantEmail,
+                     LocalDateTime bucketStart, Long interviewId) {
+        this.participantRole = participantRole;
+        this.participantEmail = participantEmail;
+        this.bucketStart = bucketStart;
+        this.interviewId = interviewId;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ParticipantRole getParticipantRole() {
+        return participantRole;
+    }
+
+    public void setParticipantRole(ParticipantRole participantRole) {
+        this.participantRole = participantRole;
+    }
+
+    public String getParticipantEmail() {
+        return participantEmail;
+    }
+
+    public void setParticipantEmail(String participantEmail) {
+        this.participantEmail = participantEmail;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getInterviewId() {
+        return interviewId;
+    }
+
+    public void setInterviewId(Long interviewId) {
+        this.interviewId = interviewId;
+    }
+}
@@ -0,0 +1,147 @@
+package com.interview.scheduler.repository;
+
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.model.Participant;
+import com.interview.scheduler.model.ParticipantRole;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to the slot_claims table.
+ *
+ * Interviews are discretized into fixed buckets rounded outwards. With the default
+ * one-minute buckets two interviews collide exactly when they overlap, as long as
+ * they start and end on whole minutes. Coarser buckets need fewer rows, but then
+ * interviews that only share a partially used bucket collide as well, such as
+ * 10:00-10:50 followed by 10:50-11:30 with 15-minute buckets.
+ */
+@Repository
+public class SlotClaimRepository {
+
+    private static final String INSERT_CLAIM =
+            "INSERT INTO slot_claims (participant_role, participant_email, bucket_start, interview_id) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private static final String DELETE_CLAIMS =
+            "DELETE FROM slot_claims WHERE interview_id = ?";
+
+    private static final String TRANSFER_CANDIDATE_CLAIMS =
+            "UPDATE slot_claims SET interview_id = ? WHERE interview_id = ? AND participant_role = 'CANDIDATE'";
+
+    // Claims are inserted in this order so concurrent bookings wait on each other instead of deadlocking
+    private static final Comparator<Object[]> CLAIM_ORDER = Comparator
+            .comparing((Object[] row) -> (String) row[0])
+            .thenComparing(row -> (String) row[1])
+            .thenComparing(row -> (Timestamp) row[2]);
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long bucketMinutes;
+
+    @Autowired
+    public SlotClaimRepository(JdbcTemplate jdbcTemplate,
+                               @Value("${interview.booking.slot-claim-minutes:1}") long bucketMinutes) {
+        if (bucketMinutes <= 0 || MINUTES_PER_DAY % bucketMinutes != 0) {
+            throw new IllegalArgumentException(
+                "Slot claim bucket size must evenly divide a day, got " + bucketMinutes + " minutes");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.bucketMinutes = bucketMinutes;
+    }
+
+    /**
+     * Claim every bucket of the interviews for both participants in a single batch.
+     * Throws DataIntegrityViolationException if any bucket is already claimed.
+     *
+     * The interviews of a panel share their candidate, whose buckets are claimed
+     * once, on behalf of the first of them.
+     */
+    public void claimAll(List<Interview> interviews) {
+        claim(interviews, true);
+    }
+
+    /**
+     * Claim only the interviewers' buckets, for panel interviews whose candidate
+     * buckets are already held by another interview of the panel
+     */
+    public void claimInterviewerSlots(List<Interview> interviews) {
+        claim(interviews, false);
+    }
+
+    /**
+     * Hand the candidate buckets held by one interview of a panel over to another
+     */
+    public void transferCandidateClaims(Long fromInterviewId, Long toInterviewId) {
+        jdbcTemplate.update(TRANSFER_CANDIDATE_CLAIMS, toInterviewId, fromInterviewId);
+    }
+
+    /**
+     * Release all buckets held by an interview
+     */
+    public void release(Long interviewId) {
+        jdbcTemplate.update(DELETE_CLAIMS, interviewId);
+    }
+
+    private void claim(List<Interview> interviews, boolean includeCandidates) {
+        Map<String, Object[]> rows = new LinkedHashMap<>();
+        for (Interview interview : interviews) {
+            for (LocalDateTime bucket : bucketsOf(interview.getStartTime(), interview.getEndTime())) {
+                Timestamp bucketStart = Timestamp.valueOf(bucket);
+                addClaim(rows, ParticipantRole.INTERVIEWER, interview.getInterviewerEmail(), bucketStart, interview);
+                if (includeCandidates) {
+                    addClaim(rows, ParticipantRole.CANDIDATE, interview.getCandidateEmail(), bucketStart, interview);
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            List<Object[]> ordered = new ArrayList<>(rows.values());
+            ordered.sort(CLAIM_ORDER);
+            jdbcTemplate.batchUpdate(INSERT_CLAIM, ordered);
+        }
+    }
+
+    // Only claims of the same panel are merged; any other duplicate still fails on the unique constraint
+    private void addClaim(Map<String, Object[]> rows, ParticipantRole role, String email,
+                          Timestamp bucketStart, Interview interview) {
+        String participant = Participant.normalizeEmail(email);
+        String owner = interview.getPanelId() != null ? "panel " + interview.getPanelId() : "interview " + interview.getId();
+        rows.putIfAbsent(role + "|" + participant + "|" + bucketStart + "|" + owner,
+                         new Object[] {role.name(), participant, bucketStart, interview.getId()});
+    }
+
+    /**
+     * Whether the interview starts and ends on bucket boundaries, so its claims can
+     * only collide with interviews it really overlaps
+     */
+    public boolean fillsBuckets(Interview interview) {
+        return floor(interview.getStartTime()).equals(interview.getStartTime())
+            && floor(interview.getEndTime()).equals(interview.getEndTime());
+    }
+
+    List<LocalDateTime> bucketsOf(LocalDateTime startTime, LocalDateTime endTime) {
+        List<LocalDateTime> buckets = new ArrayList<>();
+        for (LocalDateTime bucket = floor(startTime); bucket.isBefore(endTime); bucket = bucket.plusMinutes(bucketMinutes)) {
+            buckets.add(bucket);
+        }
+        return buckets;
+    }
+
+    private LocalDateTime floor(LocalDateTime time) {
+        LocalDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        long minutes = Duration.between(day, time).toMinutes();
+        return day.plusMinutes(minutes - minutes % bucketMinutes);
+    }
+}
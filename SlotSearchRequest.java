@@ -0,0 +1,120 @@
+package com.interview.scheduler.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Participants and rules for finding the earliest windows in which everyone is free.
+ * Working hours left out fall back to the configured suggestion settings.
+ */
+public class SlotSearchRequest {
+    
+    @NotEmpty(message = "At least one interviewer email is required")
+    @Size(max = InterviewRequest.MAX_PANEL_SIZE, message = "At most " + InterviewRequest.MAX_PANEL_SIZE + " interviewers can be searched")
+    private List<@NotBlank(message = "Interviewer email is required") @Email(message = "Invalid interviewer email format") String> interviewerEmails;
+    
+    @Size(max = InterviewRequest.MAX_PANEL_SIZE, message = "At most " + InterviewRequest.MAX_PANEL_SIZE + " candidates can be searched")
+    private List<@NotBlank(message = "Candidate email is required") @Email(message = "Invalid candidate email format") String> candidateEmails;
+    
+    @NotNull(message = "Duration is required")
+    @Min(value = 5, message = "Duration must be at least 5 minutes")
+    @Max(value = 24 * 60, message = "Duration cannot exceed one day")
+    private Integer durationMinutes;
+    
+    // Defaults to now; the search never starts in the past
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime searchFrom;
+    
+    private Integer horizonDays;
+    
+    private Integer count;
+    
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime workDayStart;
+    
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime workDayEnd;
+    
+    private Boolean includeWeekends;
+    
+    // Constructors
+    public SlotSearchRequest() {
+    }
+    
+    // Getters and Setters
+    public List<String> getInterviewerEmails() {
+        return interviewerEmails;
+    }
+    
+    public void setInterviewerEmails(List<String> interviewerEmails) {
+        this.interviewerEmails = interviewerEmails;
+    }
+    
+    public List<String> getCandidateEmails() {
+        return candidateEmails;
+    }
+    
+    public void setCandidateEmails(List<String> candidateEmails) {
+        this.candidateEmails = candidateEmails;
+    }
+    
+    public Integer getDurationMinutes() {
+        return durationMinutes;
+    }
+    
+    public void setDurationMinutes(Integer durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+    
+    public LocalDateTime getSearchFrom() {
+        return searchFrom;
+    }
+    
+    public void setSearchFrom(LocalDateTime searchFrom) {
+        this.searchFrom = searchFrom;
+    }
+    
+    public Integer getHorizonDays() {
+        return horizonDays;
+    }
+    
+    public void setHorizonDays(Integer horizonDays) {
+        this.horizonDays = horizonDays;
+    }
+    
+    public Integer getCount() {
+        return count;
+    }
+    
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+    
+    public LocalTime getWorkDayStart() {
+        return workDayStart;
+    }
+    
+    public void setWorkDayStart(LocalTime workDayStart) {
+        this.workDayStart = workDayStart;
+    }
+    
+    public LocalTime getWorkDayEnd() {
+        return workDayEnd;
+    }
+    
+    public void setWorkDayEnd(LocalTime workDayEnd) {
+        this.workDayEnd = workDayEnd;
+    }
+    
+    public Boolean getIncludeWeekends() {
+        return includeWeekends;
+    }
+    
+    public void setIncludeWeekends(Boolean includeWeekends) {
+        this.includeWeekends = includeWeekends;
+    }
+}
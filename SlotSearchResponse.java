@@ -0,0 +1,52 @@
+package com.interview.scheduler.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class SlotSearchResponse {
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime searchFrom;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime searchTo;
+    
+    private List<FreeSlot> slots;
+    
+    // Constructors
+    public SlotSearchResponse() {
+    }
+    
+    public SlotSearchResponse(LocalDateTime searchFrom, LocalDateTime searchTo, List<FreeSlot> slots) {
+        this.searchFrom = searchFrom;
+        this.searchTo = searchTo;
+        this.slots = slots;
+    }
+    
+    // Getters and Setters
+    public LocalDateTime getSearchFrom() {
+        return searchFrom;
+    }
+    
+    public void setSearchFrom(LocalDateTime searchFrom) {
+        this.searchFrom = searchFrom;
+    }
+    
+    public LocalDateTime getSearchTo() {
+        return searchTo;
+    }
+    
+    public void setSearchTo(LocalDateTime searchTo) {
+        this.searchTo = searchTo;
+    }
+    
+    public List<FreeSlot> getSlots() {
+        return slots;
+    }
+    
+    public void setSlots(List<FreeSlot> slots) {
+        this.slots = slots;
+    }
+}
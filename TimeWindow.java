@@ -0,0 +1,30 @@
+package com.interview.scheduler.service.availability;
+
+import java.time.LocalDateTime;
+
+/**
+ * Half-open time interval [start, end)
+ */
+public class TimeWindow {
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    public TimeWindow(LocalDateTime start, LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s to %s", start, end);
+    }
+}
@@ -0,0 +1,43 @@
+package com.interview.scheduler.dto;
+
+public class UnplacedCandidate {
+    
+    private String candidateEmail;
+    private String position;
+    private String reason;
+    
+    // Constructors
+    public UnplacedCandidate() {
+    }
+    
+    public UnplacedCandidate(String candidateEmail, String position, String reason) {
+        this.candidateEmail = candidateEmail;
+        this.position = position;
+        this.reason = reason;
+    }
+    
+    // Getters and Setters
+    public String getCandidateEmail() {
+        return candidateEmail;
+    }
+    
+    public void setCandidateEmail(String candidateEmail) {
+        this.candidateEmail = candidateEmail;
+    }
+    
+    public String getPosition() {
+        return position;
+    }
+    
+    public void setPosition(String position) {
+        this.position = position;
+    }
+    
+    public String getReason() {
+        return reason;
+    }
+    
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
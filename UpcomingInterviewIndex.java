@@ -0,0 +1,183 @@
+package com.interview.scheduler.service.index;
+
+import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.dto.PageCursor;
+import com.interview.scheduler.event.InterviewChangedEvent;
+import com.interview.scheduler.event.InterviewsRelayedEvent;
+import com.interview.scheduler.mapper.InterviewMapper;
+import com.interview.scheduler.model.InterviewStatus;
+import com.interview.scheduler.repository.InterviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory skip list of non-cancelled interviews that have not started yet,
+ * ordered by (startTime, id) like the upcoming listing.
+ *
+ * Warmed at startup and kept up to date from committed {@link InterviewChangedEvent}s,
+ * and from the {@link InterviewsRelayedEvent}s that carry changes made through other
+ * instances.
+ * A window query seeks to the first interview after now (or after the cursor) and
+ * walks forward, so it costs O(log n + k) for k rows. Interviews that have started
+ * are dropped by the next read or write that finds them at the head of the list.
+ */
+@Component
+public class UpcomingInterviewIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UpcomingInterviewIndex.class);
+
+    private static final Comparator<InterviewResponse> BY_START = Comparator
+            .comparing(InterviewResponse::getStartTime)
+            .thenComparing(InterviewResponse::getId);
+
+    private final InterviewRepository interviewRepository;
+
+    private final NavigableSet<InterviewResponse> upcoming = new ConcurrentSkipListSet<>(BY_START);
+    private final Map<Long, InterviewResponse> interviewsById = new ConcurrentHashMap<>();
+    // Version at which an interview was cancelled before warm-up finished; older snapshot rows are skipped
+    private final Map<Long, Long> tombstones = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    @Autowired
+    public UpcomingInterviewIndex(InterviewRepository interviewRepository) {
+        this.interviewRepository = interviewRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        log.info("Warming upcoming interview index");
+        LocalDateTime now = LocalDateTime.now();
+        List<InterviewResponse> interviews = interviewRepository.findUpcomingInterviews(now, Pageable.unpaged());
+        synchronized (this) {
+            interviews.forEach(interview -> apply(interview, now));
+            tombstones.clear();
+            ready = true;
+        }
+        log.info("Upcoming interview index ready with {} interviews", interviewsById.size());
+    }
+
+    @TransactionalEventListener
+    public void onInterviewChanged(InterviewChangedEvent event) {
+        apply(InterviewMapper.toResponse(event.getInterview()), LocalDateTime.now());
+    }
+
+    @EventListener
+    public void onInterviewsRelayed(InterviewsRelayedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        event.getInterviews().forEach(interview -> apply(InterviewMapper.toResponse(interview), now));
+    }
+
+    /**
+     * Whether the index has been fully loaded and can answer queries
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Up to maxResults interviews starting after now, and after the cursor if one is
+     * given, in (startTime, id) order. A non-null until bounds the start time inclusively.
+     */
+    public List<InterviewResponse> findUpcoming(LocalDateTime now, PageCursor after, LocalDateTime until,
+                                                int maxResults) {
+        dropStarted(now);
+
+        InterviewResponse from = probe(now, Long.MAX_VALUE);
+        if (after != null) {
+            InterviewResponse cursor = probe(after.getStartTime(), after.getId());
+            if (BY_START.compare(cursor, from) > 0) {
+                from = cursor;
+            }
+        }
+
+        List<InterviewResponse> interviews = new ArrayList<>();
+        for (InterviewResponse interview : upcoming.tailSet(from, false)) {
+            if (interviews.size() == maxResults || (until != null && interview.getStartTime().isAfter(until))) {
+                break;
+            }
+            interviews.add(interview);
+        }
+        return interviews;
+    }
+
+    /**
+     * Insert, replace or drop an interview. Older versions than the one already
+     * indexed, or than a cancellation seen during warm-up, are ignored so the
+     * warm-up snapshot cannot undo a newer change.
+     */
+    synchronized void apply(InterviewResponse source, LocalDateTime now) {
+        InterviewResponse existing = interviewsById.get(source.getId());
+        if (existing != null && isOlder(source, existing.getVersion())) {
+            return;
+        }
+        if (!ready) {
+            Long cancelledAt = tombstones.get(source.getId());
+            if (cancelledAt != null && isOlder(source, cancelledAt)) {
+                return;
+            }
+            if (source.getStatus() == InterviewStatus.CANCELLED && source.getVersion() != null) {
+                tombstones.merge(source.getId(), source.getVersion(), Math::max);
+            }
+        }
+        if (existing != null) {
+            upcoming.remove(existing);
+            interviewsById.remove(existing.getId());
+        }
+        if (source.getStatus() == InterviewStatus.CANCELLED || !source.getStartTime().isAfter(now)) {
+            return;
+        }
+        interviewsById.put(source.getId(), source);
+        upcoming.add(source);
+        removeStarted(now);
+    }
+
+    // Cheap check on the read path; only takes the lock when something has started
+    private void dropStarted(LocalDateTime now) {
+        Iterator<InterviewResponse> head = upcoming.iterator();
+        if (head.hasNext() && !head.next().getStartTime().isAfter(now)) {
+            removeStarted(now);
+        }
+    }
+
+    private synchronized void removeStarted(LocalDateTime now) {
+        Iterator<InterviewResponse> iterator = upcoming.iterator();
+        while (iterator.hasNext()) {
+            InterviewResponse interview = iterator.next();
+            if (interview.getStartTime().isAfter(now)) {
+                return;
+            }
+            iterator.remove();
+            interviewsById.remove(interview.getId(), interview);
+        }
+    }
+
+    private boolean isOlder(InterviewResponse candidate, Long currentVersion) {
+        return candidate.getVersion() != null && currentVersion != null
+                && candidate.getVersion() < currentVersion;
+    }
+
+    private InterviewResponse probe(LocalDateTime startTime, Long id) {
+        InterviewResponse probe = new InterviewResponse();
+        probe.setStartTime(startTime);
+        probe.setId(id);
+        return probe;
+    }
+}
@@ -0,0 +1,45 @@
+package com.interview.scheduler.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Active when spring.threads.virtual.enabled=true on Java 21+. Spring Boot then
+ * serves requests on virtual threads; this caps database concurrency at the
+ * Hikari pool size so blocked bookings queue fairly in front of the pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    // Hikari's pool size when none is configured; the pool only fills it in once it starts
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(
+            @Value("${interview.db.permit-timeout:PT5S}") Duration permitTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    int poolSize = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+                    log.info("Limiting database concurrency to {} connections for virtual threads", poolSize);
+                    return new ConnectionLimitingDataSource(hikari, poolSize, permitTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.interview.scheduler.service.availability;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * The hours free windows must fit in and the grid their starts are aligned to
+ */
+public class WorkingHours {
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final LocalTime workDayStart;
+    private final LocalTime workDayEnd;
+    private final boolean includeWeekends;
+    private final long stepMinutes;
+
+    public WorkingHours(LocalTime workDayStart, LocalTime workDayEnd, boolean includeWeekends, long stepMinutes) {
+        if (!workDayStart.isBefore(workDayEnd)) {
+            throw new IllegalArgumentException("Working day must start before it ends");
+        }
+        if (stepMinutes <= 0 || MINUTES_PER_DAY % stepMinutes != 0) {
+            throw new IllegalArgumentException(
+                "Suggestion step must evenly divide a day, got " + stepMinutes + " minutes");
+        }
+        if ((workDayStart.toSecondOfDay() / 60) % stepMinutes != 0 || workDayStart.getSecond() != 0) {
+            throw new IllegalArgumentException("Working day start must fall on the suggestion step grid");
+        }
+        this.workDayStart = workDayStart;
+        this.workDayEnd = workDayEnd;
+        this.includeWeekends = includeWeekends;
+        this.stepMinutes = stepMinutes;
+    }
+
+    public LocalTime getWorkDayStart() {
+        return workDayStart;
+    }
+
+    public LocalTime getWorkDayEnd() {
+        return workDayEnd;
+    }
+
+    public boolean isIncludeWeekends() {
+        return includeWeekends;
+    }
+
+    public long getStepMinutes() {
+        return stepMinutes;
+    }
+
+    boolean isWorkingDay(DayOfWeek day) {
+        return includeWeekends || (day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s-%s%s every %d minutes", workDayStart, workDayEnd,
+                             includeWeekends ? " including weekends" : "", stepMinutes);
+    }
+}
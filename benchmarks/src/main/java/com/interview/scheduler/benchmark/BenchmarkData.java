@@ -0,0 +1,73 @@
+package com.interview.scheduler.benchmark;
+
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.model.InterviewStatus;
+import com.interview.scheduler.model.Participant;
+import com.interview.scheduler.service.participant.ParticipantDirectory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic schedules shared by the benchmarks.
+ *
+ * Participant p gets interviewsPerParticipant one-hour interviews, one per
+ * working hour (09:00-17:00) on consecutive days starting at BASE.
+ */
+final class BenchmarkData {
+
+    static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    private static final int SLOTS_PER_DAY = 8;
+
+    private BenchmarkData() {
+    }
+
+    static String interviewer(int participant) {
+        return "interviewer" + participant + "@example.com";
+    }
+
+    static String candidate(int participant) {
+        return "candidate" + participant + "@example.com";
+    }
+
+    static LocalDateTime slotStart(int slot) {
+        return BASE.plusDays(slot / SLOTS_PER_DAY).plusHours(9 + slot % SLOTS_PER_DAY);
+    }
+
+    static List<Interview> schedule(int participant, int interviewsPerParticipant, long firstId) {
+        List<Interview> interviews = new ArrayList<>(interviewsPerParticipant);
+        for (int slot = 0; slot < interviewsPerParticipant; slot++) {
+            interviews.add(interview(firstId + slot, participant, slotStart(slot)));
+        }
+        return interviews;
+    }
+
+    /**
+     * Point the interviews at their participants, as the service does before inserting them
+     */
+    static List<Interview> withParticipants(ParticipantDirectory participantDirectory, List<Interview> interviews) {
+        Map<String, String> namesByEmail = new LinkedHashMap<>();
+        for (Interview interview : interviews) {
+            namesByEmail.putIfAbsent(interview.getInterviewerEmail(), interview.getInterviewerName());
+            namesByEmail.putIfAbsent(interview.getCandidateEmail(), interview.getCandidateName());
+        }
+        Map<String, Long> ids = participantDirectory.resolve(namesByEmail);
+        for (Interview interview : interviews) {
+            interview.setInterviewerId(ids.get(Participant.normalizeEmail(interview.getInterviewerEmail())));
+            interview.setCandidateId(ids.get(Participant.normalizeEmail(interview.getCandidateEmail())));
+        }
+        return interviews;
+    }
+
+    static Interview interview(long id, int participant, LocalDateTime startTime) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Interview(id, "Candidate " + participant, candidate(participant),
+                "Interviewer " + participant, interviewer(participant),
+                startTime, startTime.plusHours(1), InterviewStatus.PENDING,
+                "Benchmark interview", "Software Engineer", now, now, 0L);
+    }
+}
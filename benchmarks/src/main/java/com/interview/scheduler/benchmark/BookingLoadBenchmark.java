@@ -0,0 +1,156 @@
+package com.interview.scheduler.benchmark;
+
+import com.interview.scheduler.InterviewSchedulerApplication;
+import com.interview.scheduler.dto.InterviewRequest;
+import com.interview.scheduler.exception.ConflictException;
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.repository.InterviewBatchRepository;
+import com.interview.scheduler.service.InterviewService;
+import com.interview.scheduler.service.participant.ParticipantDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Time to drain a burst of concurrent bookings in LOCKING mode, on a pool of
+ * 200 platform threads (Tomcat's default) versus one virtual thread per request
+ * with database concurrency capped by ConnectionLimitingDataSource.
+ *
+ * Half of each burst targets a few hot interviewers whose existing interview
+ * every request overlaps, so those requests queue on the same row lock. The
+ * other half books free slots of distinct interviewers and shows how much the
+ * blocked requests hold everyone else up. VIRTUAL needs a Java 21 runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dspring.devtools.restart.enabled=false")
+public class BookingLoadBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private String threads;
+
+    @Param({"2000"})
+    private int requests;
+
+    @Param({"5"})
+    private int hotInterviewers;
+
+    private ConfigurableApplicationContext context;
+    private InterviewService interviewService;
+    private InterviewBatchRepository batchRepository;
+    private ParticipantDirectory participantDirectory;
+    private Executor executor;
+    private ExecutorService platformPool;
+
+    private int burst;
+    private List<InterviewRequest> burstRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = "VIRTUAL".equals(threads);
+        context = new SpringApplicationBuilder(InterviewSchedulerApplication.class)
+                .profiles("h2")
+                .properties("interview.booking.mode=LOCKING",
+                            "spring.threads.virtual.enabled=" + virtual)
+                .run();
+        interviewService = context.getBean(InterviewService.class);
+        batchRepository = context.getBean(InterviewBatchRepository.class);
+        participantDirectory = context.getBean(ParticipantDirectory.class);
+
+        if (virtual) {
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("booking-");
+            virtualExecutor.setVirtualThreads(true);
+            executor = virtualExecutor;
+        } else {
+            platformPool = Executors.newFixedThreadPool(PLATFORM_THREADS);
+            executor = platformPool;
+        }
+    }
+
+    /**
+     * Each burst books a day of its own, seeded with one interview per hot interviewer
+     */
+    @Setup(Level.Invocation)
+    public void prepareBurst() {
+        LocalDateTime day = BenchmarkData.BASE.plusDays(burst++);
+        LocalDateTime hotStart = day.plusHours(10);
+
+        List<Interview> seeded = new ArrayList<>();
+        for (int hot = 0; hot < hotInterviewers; hot++) {
+            seeded.add(BenchmarkData.interview(0, hot, hotStart));
+        }
+        batchRepository.insertAll(BenchmarkData.withParticipants(participantDirectory, seeded));
+
+        burstRequests = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            if (i % 2 == 0) {
+                // Overlaps the seeded interview, waits for its row lock, then conflicts
+                int hot = (i / 2) % hotInterviewers;
+                burstRequests.add(request(i, BenchmarkData.interviewer(hot), hotStart.plusMinutes(30)));
+            } else {
+                burstRequests.add(request(i, "free" + i + "@example.com", day.plusHours(14)));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (platformPool != null) {
+            platformPool.shutdownNow();
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public int burst() {
+        AtomicInteger created = new AtomicInteger();
+        CompletableFuture<?>[] bookings = new CompletableFuture<?>[burstRequests.size()];
+        for (int i = 0; i < bookings.length; i++) {
+            InterviewRequest request = burstRequests.get(i);
+            bookings[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    interviewService.scheduleInterview(request);
+                    created.incrementAndGet();
+                } catch (ConflictException e) {
+                    // Expected for requests on hot interviewers
+                }
+            }, executor);
+        }
+        CompletableFuture.allOf(bookings).join();
+        return created.get();
+    }
+
+    private InterviewRequest request(int index, String interviewerEmail, LocalDateTime startTime) {
+        return new InterviewRequest("Candidate " + index, "load" + burst + "-" + index + "@example.com",
+                "Interviewer", interviewerEmail, startTime, startTime.plusHours(1),
+                "Software Engineer", "Load test booking");
+    }
+}
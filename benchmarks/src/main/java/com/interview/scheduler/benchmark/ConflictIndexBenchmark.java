@@ -0,0 +1,68 @@
+package com.interview.scheduler.benchmark;
+
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.service.index.ParticipantSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory overlap detection at varying per-participant schedule sizes:
+ * the ordered ParticipantSchedule against a linear scan of the same interviews.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConflictIndexBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int interviewsPerParticipant;
+
+    private ParticipantSchedule schedule;
+    private List<Interview> interviews;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        interviews = BenchmarkData.schedule(0, interviewsPerParticipant, 1);
+        schedule = new ParticipantSchedule();
+        interviews.forEach(schedule::add);
+
+        startTime = BenchmarkData.slotStart(interviewsPerParticipant / 2).plusMinutes(30);
+        endTime = startTime.plusHours(1);
+    }
+
+    @Benchmark
+    public List<Interview> orderedSchedule() {
+        return schedule.findOverlapping(startTime, endTime);
+    }
+
+    @Benchmark
+    public List<Interview> linearScan() {
+        List<Interview> overlapping = new ArrayList<>();
+        for (Interview interview : interviews) {
+            if (interview.getStartTime().isBefore(endTime) && interview.getEndTime().isAfter(startTime)) {
+                overlapping.add(interview);
+            }
+        }
+        return overlapping;
+    }
+}
@@ -0,0 +1,203 @@
+package com.interview.scheduler.benchmark;
+
+import com.interview.scheduler.InterviewSchedulerApplication;
+import com.interview.scheduler.repository.InterviewBatchRepository;
+import com.interview.scheduler.service.participant.ParticipantDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Database conflict lookup latency against table size on embedded H2.
+ *
+ * baseline is the original lookup, one query per role on the email columns.
+ * twoQueries is the same per-role lookup on participant ids. orQuery folds the
+ * roles, and the match on rows not yet linked to participants, into one OR, which
+ * no index serves. oneQuery is the lookup behind InterviewRepository.findConflicts:
+ * one indexed branch per role under UNION ALL, read back by primary key. All run as
+ * plain SQL so only the database work differs. With indexed=false every secondary index on interviews
+ * is dropped, as in the original schema, giving the before/after comparison for
+ * the indexes.
+ *
+ * Each call probes the next of many participants and slots, since H2 hands back
+ * the previous result when a query is repeated with the same parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dspring.devtools.restart.enabled=false")
+public class ConflictQueryBenchmark {
+
+    private static final String BASELINE_INTERVIEWER_CONFLICTS =
+            "SELECT * FROM interviews WHERE interviewer_email = ? AND status <> 'CANCELLED' " +
+            "AND start_time < ? AND end_time > ?";
+
+    private static final String BASELINE_CANDIDATE_CONFLICTS =
+            "SELECT * FROM interviews WHERE candidate_email = ? AND status <> 'CANCELLED' " +
+            "AND start_time < ? AND end_time > ?";
+
+    private static final String INTERVIEWER_CONFLICTS =
+            "SELECT * FROM interviews WHERE interviewer_id = ? AND status <> 'CANCELLED' " +
+            "AND start_time < ? AND end_time > ?";
+
+    private static final String CANDIDATE_CONFLICTS =
+            "SELECT * FROM interviews WHERE candidate_id = ? AND status <> 'CANCELLED' " +
+            "AND start_time < ? AND end_time > ?";
+
+    private static final String OR_CONFLICTS =
+            "SELECT * FROM interviews WHERE (interviewer_id = ? OR candidate_id = ? " +
+            "OR (interviewer_id IS NULL AND LOWER(TRIM(interviewer_email)) = ?) " +
+            "OR (candidate_id IS NULL AND LOWER(TRIM(candidate_email)) = ?)) " +
+            "AND status <> 'CANCELLED' AND start_time < ? AND end_time > ?";
+
+    private static final String ACTIVE_OVERLAP = " AND status <> 'CANCELLED' AND start_time < ? AND end_time > ?";
+
+    private static final String COMBINED_CONFLICTS =
+            "SELECT * FROM interviews WHERE id IN (" +
+            "SELECT id FROM interviews WHERE interviewer_id = ?" + ACTIVE_OVERLAP +
+            " UNION ALL SELECT id FROM interviews WHERE candidate_id = ?" + ACTIVE_OVERLAP +
+            " UNION ALL SELECT id FROM interviews WHERE interviewer_id IS NULL " +
+            "AND LOWER(TRIM(interviewer_email)) = ?" + ACTIVE_OVERLAP +
+            " UNION ALL SELECT id FROM interviews WHERE candidate_id IS NULL " +
+            "AND LOWER(TRIM(candidate_email)) = ?" + ACTIVE_OVERLAP + ")";
+
+    // A power of two, so the next probe is picked with a mask
+    private static final int PROBES = 1024;
+
+    @Param({"10", "100", "1000"})
+    private int interviewsPerParticipant;
+
+    @Param({"100"})
+    private int participants;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+
+    private Probe[] probes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(InterviewSchedulerApplication.class)
+                .profiles("h2")
+                .run();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        InterviewBatchRepository batchRepository = context.getBean(InterviewBatchRepository.class);
+        ParticipantDirectory participantDirectory = context.getBean(ParticipantDirectory.class);
+        for (int participant = 0; participant < participants; participant++) {
+            batchRepository.insertAll(BenchmarkData.withParticipants(participantDirectory,
+                    BenchmarkData.schedule(participant, interviewsPerParticipant, 0)));
+        }
+
+        if (!indexed) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_interviews_interviewer_id_time");
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_interviews_candidate_id_time");
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_interviews_start_time");
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_interviews_panel");
+        }
+        jdbcTemplate.execute("ANALYZE");
+
+        // Every probe overlaps booked slots of one participant, so each lookup finds matches
+        probes = new Probe[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            int participant = i % participants;
+            LocalDateTime startTime = BenchmarkData.slotStart((i * 7919) % interviewsPerParticipant).plusMinutes(30);
+            String interviewerEmail = BenchmarkData.interviewer(participant);
+            String candidateEmail = BenchmarkData.candidate(participant);
+            probes[i] = new Probe(interviewerEmail, candidateEmail,
+                                  participantDirectory.findId(interviewerEmail),
+                                  participantDirectory.findId(candidateEmail),
+                                  startTime, startTime.plusHours(1));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> baseline() {
+        Probe probe = nextProbe();
+        List<Map<String, Object>> conflicts = jdbcTemplate.queryForList(
+                BASELINE_INTERVIEWER_CONFLICTS, probe.interviewerEmail, probe.endTime, probe.startTime);
+        conflicts.addAll(jdbcTemplate.queryForList(
+                BASELINE_CANDIDATE_CONFLICTS, probe.candidateEmail, probe.endTime, probe.startTime));
+        return conflicts;
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> twoQueries() {
+        Probe probe = nextProbe();
+        List<Map<String, Object>> conflicts = jdbcTemplate.queryForList(
+                INTERVIEWER_CONFLICTS, probe.interviewerId, probe.endTime, probe.startTime);
+        conflicts.addAll(jdbcTemplate.queryForList(
+                CANDIDATE_CONFLICTS, probe.candidateId, probe.endTime, probe.startTime));
+        return conflicts;
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> orQuery() {
+        Probe probe = nextProbe();
+        return jdbcTemplate.queryForList(OR_CONFLICTS, probe.interviewerId, probe.candidateId,
+                                         probe.interviewerEmail, probe.candidateEmail,
+                                         probe.endTime, probe.startTime);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> oneQuery() {
+        Probe probe = nextProbe();
+        return jdbcTemplate.queryForList(COMBINED_CONFLICTS,
+                                         probe.interviewerId, probe.endTime, probe.startTime,
+                                         probe.candidateId, probe.endTime, probe.startTime,
+                                         probe.interviewerEmail, probe.endTime, probe.startTime,
+                                         probe.candidateEmail, probe.endTime, probe.startTime);
+    }
+
+    private Probe nextProbe() {
+        return probes[next++ & (PROBES - 1)];
+    }
+
+    private static final class Probe {
+        private final String interviewerEmail;
+        private final String candidateEmail;
+        private final long interviewerId;
+        private final long candidateId;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+
+        private Probe(String interviewerEmail, String candidateEmail, long interviewerId, long candidateId,
+                      LocalDateTime startTime, LocalDateTime endTime) {
+            this.interviewerEmail = interviewerEmail;
+            this.candidateEmail = candidateEmail;
+            this.interviewerId = interviewerId;
+            this.candidateId = candidateId;
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+    }
+}
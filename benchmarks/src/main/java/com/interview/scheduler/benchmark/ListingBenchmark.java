@@ -0,0 +1,104 @@
+package com.interview.scheduler.benchmark;
+
+import com.interview.scheduler.InterviewSchedulerApplication;
+import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.mapper.InterviewMapper;
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.repository.InterviewBatchRepository;
+import com.interview.scheduler.repository.InterviewRepository;
+import com.interview.scheduler.service.participant.ParticipantDirectory;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * One page of an interviewer's listing on embedded H2.
+ *
+ * entities is the previous read path: managed Interview entities in a read-only
+ * transaction, then mapped to InterviewResponse. projection runs the same query
+ * as the constructor expression the listing endpoints now use. Both go through
+ * the EntityManager so only hydration and mapping differ; run with -prof gc to
+ * compare allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dspring.devtools.restart.enabled=false")
+public class ListingBenchmark {
+
+    private static final String PAGE_CONDITION =
+            "WHERE i.interviewerId = :interviewerId ORDER BY i.startTime DESC, i.id DESC";
+
+    @Param({"100", "1000"})
+    private int limit;
+
+    @Param({"5000"})
+    private int interviewsPerParticipant;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private long interviewerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(InterviewSchedulerApplication.class)
+                .profiles("h2")
+                .run();
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        ParticipantDirectory participantDirectory = context.getBean(ParticipantDirectory.class);
+        context.getBean(InterviewBatchRepository.class).insertAll(BenchmarkData.withParticipants(
+                participantDirectory, BenchmarkData.schedule(0, interviewsPerParticipant, 0)));
+        interviewerId = participantDirectory.findId(BenchmarkData.interviewer(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<InterviewResponse> entities() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT i FROM Interview i " + PAGE_CONDITION, Interview.class)
+                .setParameter("interviewerId", interviewerId)
+                .setMaxResults(limit + 1)
+                .getResultList()
+                .stream()
+                .map(InterviewMapper::toResponse)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<InterviewResponse> projection() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery(InterviewRepository.RESPONSE_PROJECTION + PAGE_CONDITION, InterviewResponse.class)
+                .setParameter("interviewerId", interviewerId)
+                .setMaxResults(limit + 1)
+                .getResultList());
+    }
+}
@@ -0,0 +1,53 @@
+package com.interview.scheduler.benchmark;
+
+import com.interview.scheduler.dto.ConflictResponse;
+import com.interview.scheduler.exception.ConflictException;
+import com.interview.scheduler.exception.GlobalExceptionHandler;
+import com.interview.scheduler.model.Interview;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to InterviewResponse mapping (InterviewMapper), driven through the
+ * conflict handler which maps every conflicting interview of a ConflictException.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int interviews;
+
+    private GlobalExceptionHandler handler;
+    private ConflictException exception;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Interview> conflicts = BenchmarkData.schedule(0, interviews, 1);
+        exception = new ConflictException("Benchmark conflict", conflicts);
+        handler = new GlobalExceptionHandler();
+    }
+
+    @Benchmark
+    public ResponseEntity<ConflictResponse> convertToResponse() {
+        return handler.handleConflictException(exception);
+    }
+}
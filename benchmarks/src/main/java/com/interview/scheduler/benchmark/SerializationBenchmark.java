@@ -0,0 +1,64 @@
+package com.interview.scheduler.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.scheduler.dto.ConflictResponse;
+import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.exception.ConflictException;
+import com.interview.scheduler.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of InterviewResponse and ConflictResponse with an
+ * ObjectMapper configured the way Spring MVC configures its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int interviews;
+
+    private ObjectMapper objectMapper;
+    private ConflictResponse conflictResponse;
+    private List<InterviewResponse> interviewResponses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        ConflictException exception = new ConflictException("Benchmark conflict",
+                BenchmarkData.schedule(0, interviews, 1));
+        conflictResponse = new GlobalExceptionHandler().handleConflictException(exception).getBody();
+        interviewResponses = conflictResponse.getConflictingInterviews();
+    }
+
+    @Benchmark
+    public byte[] interviewResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(interviewResponses);
+    }
+
+    @Benchmark
+    public byte[] conflictResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(conflictResponse);
+    }
+}
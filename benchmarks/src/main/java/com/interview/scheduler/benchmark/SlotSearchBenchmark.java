@@ -0,0 +1,85 @@
+package com.interview.scheduler.benchmark;
+
+import com.interview.scheduler.service.availability.FreeSlotFinder;
+import com.interview.scheduler.service.availability.TimeWindow;
+import com.interview.scheduler.service.availability.WorkingHours;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Earliest common free slot of several participants whose busy time together
+ * covers every working hour of the horizon except its last day, so the search
+ * has to walk the whole horizon. The k-way merge of the per-participant lists
+ * is compared with sorting all intervals into one list first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotSearchBenchmark {
+
+    private static final int HOURS_PER_DAY = 9;
+
+    @Param({"2", "5", "10"})
+    private int participants;
+
+    @Param({"14", "60"})
+    private int horizonDays;
+
+    private FreeSlotFinder finder;
+    private WorkingHours hours;
+    private List<List<TimeWindow>> busyByParticipant;
+    private LocalDateTime searchTo;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        finder = new FreeSlotFinder(LocalTime.of(9, 0), LocalTime.of(18, 0), true, 30);
+        hours = finder.workingHours(null, null, null);
+
+        // Participant p is busy in every working hour h with h % participants == p
+        busyByParticipant = new ArrayList<>();
+        for (int participant = 0; participant < participants; participant++) {
+            busyByParticipant.add(new ArrayList<>());
+        }
+        for (int day = 0; day < horizonDays - 1; day++) {
+            for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+                LocalDateTime start = BenchmarkData.BASE.plusDays(day).plusHours(9 + hour);
+                busyByParticipant.get(hour % participants).add(new TimeWindow(start, start.plusHours(1)));
+            }
+        }
+        searchTo = BenchmarkData.BASE.plusDays(horizonDays);
+    }
+
+    @Benchmark
+    public List<TimeWindow> kWayMerge() {
+        return finder.findEarliest(busyByParticipant, Duration.ofHours(1), BenchmarkData.BASE, searchTo, 3, hours);
+    }
+
+    @Benchmark
+    public List<TimeWindow> sortThenSearch() {
+        List<TimeWindow> all = new ArrayList<>();
+        busyByParticipant.forEach(all::addAll);
+        all.sort(Comparator.comparing(TimeWindow::getStart));
+        return finder.findEarliest(List.of(all), Duration.ofHours(1), BenchmarkData.BASE, searchTo, 3, hours);
+    }
+}
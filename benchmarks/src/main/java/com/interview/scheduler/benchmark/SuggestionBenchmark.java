@@ -0,0 +1,70 @@
+package com.interview.scheduler.benchmark;
+
+import com.interview.scheduler.model.Interview;
+import com.interview.scheduler.service.availability.FreeSlotFinder;
+import com.interview.scheduler.service.availability.TimeWindow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suggested slot generation: merging both participants' busy intervals and
+ * searching the horizon for the nearest free windows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggestionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int busyPerParticipant;
+
+    @Param({"14", "60"})
+    private int horizonDays;
+
+    private FreeSlotFinder finder;
+    private List<Interview> busy;
+    private LocalDateTime requestedStart;
+    private LocalDateTime searchTo;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        finder = new FreeSlotFinder(LocalTime.of(9, 0), LocalTime.of(18, 0), false, 30);
+
+        // Two participants with interleaved schedules so merging has work to do
+        busy = new ArrayList<>(BenchmarkData.schedule(0, busyPerParticipant, 1));
+        for (Interview interview : BenchmarkData.schedule(1, busyPerParticipant, busyPerParticipant + 1L)) {
+            interview.setStartTime(interview.getStartTime().plusMinutes(30));
+            interview.setEndTime(interview.getEndTime().plusMinutes(30));
+            busy.add(interview);
+        }
+
+        requestedStart = BenchmarkData.slotStart(busyPerParticipant / 2);
+        searchTo = requestedStart.plusDays(horizonDays);
+    }
+
+    @Benchmark
+    public List<TimeWindow> findNearest() {
+        return finder.findNearest(busy, requestedStart, Duration.ofHours(1),
+                BenchmarkData.BASE, searchTo, 3);
+    }
+}
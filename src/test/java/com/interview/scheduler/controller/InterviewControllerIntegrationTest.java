@@ -0,0 +1,103 @@
+package com.interview.scheduler.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "interview.booking.mode=SLOT_CLAIMS")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InterviewControllerIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void retryWithTheSameIdempotencyKeyReplaysTheBooking() throws Exception {
+        String body = bookingBody("10:00", "11:00");
+        String key = UUID.randomUUID().toString();
+
+        MvcResult first = mockMvc.perform(post("/api/interviews")
+                        .contentType(MediaType.APPLICATION_JSON).content(body).header("Idempotency-Key", key))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andReturn();
+        MvcResult retry = mockMvc.perform(post("/api/interviews")
+                        .contentType(MediaType.APPLICATION_JSON).content(body).header("Idempotency-Key", key))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn();
+
+        assertThat(read(retry).get("id")).isEqualTo(read(first).get("id"));
+    }
+
+    @Test
+    void retryWithoutAKeyConflicts() throws Exception {
+        String body = bookingBody("13:00", "14:00");
+
+        mockMvc.perform(post("/api/interviews").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/interviews").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void statusChangeAgainstAStaleVersionFailsThePrecondition() throws Exception {
+        JsonNode booked = read(mockMvc.perform(post("/api/interviews")
+                        .contentType(MediaType.APPLICATION_JSON).content(bookingBody("15:00", "16:00")))
+                .andExpect(status().isCreated())
+                .andReturn());
+        long id = booked.get("id").asLong();
+        String original = mockMvc.perform(get("/api/interviews/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult confirmed = mockMvc.perform(patch("/api/interviews/{id}/status", id)
+                        .param("status", "CONFIRMED").header(HttpHeaders.IF_MATCH, original))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(confirmed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(original);
+
+        mockMvc.perform(patch("/api/interviews/{id}/status", id)
+                        .param("status", "CANCELLED").header(HttpHeaders.IF_MATCH, original))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private String bookingBody(String start, String end) throws Exception {
+        return objectMapper.writeValueAsString(objectMapper.createObjectNode()
+                .put("candidateName", "Test Candidate")
+                .put("candidateEmail", "candidate-" + UUID.randomUUID() + "@example.com")
+                .put("interviewerName", "Test Interviewer")
+                .put("interviewerEmail", "interviewer-" + UUID.randomUUID() + "@example.com")
+                .put("startTime", DAY + "T" + start + ":00")
+                .put("endTime", DAY + "T" + end + ":00")
+                .put("position", "Engineer"));
+    }
+
+    private JsonNode read(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
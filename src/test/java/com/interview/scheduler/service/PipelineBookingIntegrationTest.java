@@ -0,0 +1,77 @@
+package com.interview.scheduler.service;
+
+import com.interview.scheduler.dto.InterviewRequest;
+import com.interview.scheduler.exception.ConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.interview.scheduler.service.SlotClaimBookingIntegrationTest.at;
+import static com.interview.scheduler.service.SlotClaimBookingIntegrationTest.request;
+import static com.interview.scheduler.service.SlotClaimBookingIntegrationTest.uniqueEmail;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "interview.booking.mode=PIPELINE",
+    "interview.booking.pipeline.linger=20ms"
+})
+@ActiveProfiles("test")
+class PipelineBookingIntegrationTest {
+
+    @Autowired
+    private InterviewService interviewService;
+
+    /**
+     * Bookings are spread over the partitions by interviewer, so between partitions only
+     * the candidate's slot claims catch the collision. A group that loses is retried
+     * booking by booking, and only the colliding booking is rejected.
+     */
+    @Test
+    void candidateBookedThroughSeveralPartitionsAtOnceGetsOneInterview() throws Exception {
+        String candidate = uniqueEmail("candidate");
+        int requests = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests * 2);
+        try {
+            List<Future<Boolean>> contested = new ArrayList<>();
+            List<Future<Boolean>> uncontested = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                String interviewer = uniqueEmail("interviewer");
+                contested.add(executor.submit(() -> book(start, request(candidate, interviewer, at(10, 0), at(11, 0)))));
+                // Queues on the same partition, often in the same group, as the contested booking
+                uncontested.add(executor.submit(() -> book(start, request(uniqueEmail("candidate"), interviewer,
+                                                                          at(12, 0), at(13, 0)))));
+            }
+            start.countDown();
+
+            int booked = 0;
+            for (Future<Boolean> result : contested) {
+                booked += result.get() ? 1 : 0;
+            }
+            assertThat(booked).isEqualTo(1);
+            for (Future<Boolean> result : uncontested) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean book(CountDownLatch start, InterviewRequest request) throws InterruptedException {
+        start.await();
+        try {
+            interviewService.scheduleInterview(request);
+            return true;
+        } catch (ConflictException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.interview.scheduler.service;
+
+import com.interview.scheduler.dto.InterviewRequest;
+import com.interview.scheduler.dto.InterviewResponse;
+import com.interview.scheduler.exception.ConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "interview.booking.mode=SLOT_CLAIMS")
+@ActiveProfiles("test")
+class SlotClaimBookingIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(30);
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Test
+    void adjacentInterviewsOfOneInterviewerBothBook() {
+        String interviewer = uniqueEmail("interviewer");
+
+        interviewService.scheduleInterview(request(uniqueEmail("candidate"), interviewer, at(10, 0), at(10, 50)));
+        InterviewResponse second = interviewService.scheduleInterview(
+            request(uniqueEmail("candidate"), interviewer, at(10, 50), at(11, 30)));
+
+        assertThat(second.getId()).isNotNull();
+    }
+
+    @Test
+    void overlappingInterviewIsRejected() {
+        String interviewer = uniqueEmail("interviewer");
+        interviewService.scheduleInterview(request(uniqueEmail("candidate"), interviewer, at(10, 0), at(11, 30)));
+
+        assertThatThrownBy(() -> interviewService.scheduleInterview(
+                request(uniqueEmail("candidate"), interviewer, at(11, 29), at(12, 0))))
+            .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void concurrentBookingsOfOneSlotLetExactlyOneThrough() throws Exception {
+        String interviewer = uniqueEmail("interviewer");
+        int requests = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Boolean>> bookings = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            InterviewRequest request = request(uniqueEmail("candidate"), interviewer, at(14, 0), at(15, 0));
+            bookings.add(() -> {
+                start.await();
+                try {
+                    interviewService.scheduleInterview(request);
+                    return true;
+                } catch (ConflictException e) {
+                    return false;
+                }
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            bookings.forEach(booking -> results.add(executor.submit(booking)));
+            start.countDown();
+            int booked = 0;
+            for (Future<Boolean> result : results) {
+                booked += result.get() ? 1 : 0;
+            }
+            assertThat(booked).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void cancellingReleasesTheClaimedSlot() {
+        String interviewer = uniqueEmail("interviewer");
+        InterviewResponse booked = interviewService.scheduleInterview(
+            request(uniqueEmail("candidate"), interviewer, at(16, 0), at(17, 0)));
+
+        interviewService.cancelInterview(booked.getId());
+        InterviewResponse rebooked = interviewService.scheduleInterview(
+            request(uniqueEmail("candidate"), interviewer, at(16, 0), at(17, 0)));
+
+        assertThat(rebooked.getId()).isNotEqualTo(booked.getId());
+    }
+
+    static InterviewRequest request(String candidateEmail, String interviewerEmail,
+                                    LocalDateTime startTime, LocalDateTime endTime) {
+        return new InterviewRequest("Test Candidate", candidateEmail, "Test Interviewer", interviewerEmail,
+                                    startTime, endTime, "Engineer", null);
+    }
+
+    static LocalDateTime at(int hour, int minute) {
+        return DAY.atTime(hour, minute);
+    }
+
+    static String uniqueEmail(String role) {
+        return role + "-" + UUID.randomUUID() + "@example.com";
+    }
+}
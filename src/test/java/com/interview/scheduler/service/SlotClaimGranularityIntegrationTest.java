@@ -0,0 +1,46 @@
+package com.interview.scheduler.service;
+
+import com.interview.scheduler.exception.ConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.interview.scheduler.service.SlotClaimBookingIntegrationTest.at;
+import static com.interview.scheduler.service.SlotClaimBookingIntegrationTest.request;
+import static com.interview.scheduler.service.SlotClaimBookingIntegrationTest.uniqueEmail;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "interview.booking.mode=SLOT_CLAIMS",
+    "interview.booking.slot-claim-minutes=15"
+})
+@ActiveProfiles("test")
+class SlotClaimGranularityIntegrationTest {
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Test
+    void adjacentInterviewSharingABucketIsToldAboutTheGranularity() {
+        String interviewer = uniqueEmail("interviewer");
+        interviewService.scheduleInterview(request(uniqueEmail("candidate"), interviewer, at(10, 0), at(10, 50)));
+
+        assertThatThrownBy(() -> interviewService.scheduleInterview(
+                request(uniqueEmail("candidate"), interviewer, at(10, 50), at(11, 30))))
+            .isInstanceOf(ConflictException.class)
+            .hasMessageContaining("adjacent interview shares a slot claim bucket")
+            .satisfies(e -> assertThat(((ConflictException) e).getConflictingInterviews()).isEmpty());
+    }
+
+    @Test
+    void adjacentInterviewOnABucketBoundaryBooks() {
+        String interviewer = uniqueEmail("interviewer");
+        interviewService.scheduleInterview(request(uniqueEmail("candidate"), interviewer, at(13, 0), at(13, 45)));
+
+        assertThat(interviewService.scheduleInterview(
+                request(uniqueEmail("candidate"), interviewer, at(13, 45), at(14, 30))).getId())
+            .isNotNull();
+    }
+}